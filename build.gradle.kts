@@ -1,6 +1,7 @@
 plugins {
     java
 	id("com.vanniktech.maven.publish") version "0.34.0"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "io.github.darvil82"
@@ -64,6 +65,13 @@ tasks.withType<Javadoc>().configureEach {
     options.encoding = "UTF-8"
 }
 
+jmh {
+	jmhVersion = "1.37"
+	profilers = listOf("gc")
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+}
+
 tasks.test {
     useJUnitPlatform()
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package io.github.darvil.utils.benchmark;
+
+import io.github.darvil.utils.ConcurrentLoopPool;
+import io.github.darvil.utils.LoopPool;
+import io.github.darvil.utils.WeightedLoopPool;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ConcurrentLoopPool} with a {@link LoopPool} guarded by a lock, when many threads pick elements
+ * from the same pool. {@link WeightedLoopPool} is measured under the same contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class LoopPoolBenchmark {
+	@Param({ "3", "8" })
+	private int size;
+
+	private LoopPool<Integer> lockedPool;
+	private ConcurrentLoopPool<Integer> concurrentPool;
+	private WeightedLoopPool<Integer> roundRobinPool, twoChoicesPool;
+
+	@Setup
+	public void setup() {
+		final var elements = new Integer[this.size];
+		for (int i = 0; i < this.size; i++)
+			elements[i] = i;
+
+		this.lockedPool = LoopPool.of(elements);
+		this.concurrentPool = ConcurrentLoopPool.of(elements);
+		this.roundRobinPool = WeightedLoopPool.of(WeightedLoopPool.Mode.SMOOTH_ROUND_ROBIN, elements);
+		this.twoChoicesPool = WeightedLoopPool.of(WeightedLoopPool.Mode.POWER_OF_TWO_CHOICES, elements);
+
+		for (int i = 0; i < this.size; i++) {
+			this.roundRobinPool.setWeight(i, i + 1);
+			this.twoChoicesPool.setWeight(i, i + 1);
+		}
+	}
+
+	@Benchmark
+	public Integer synchronizedNext() {
+		synchronized (this.lockedPool) {
+			return this.lockedPool.next();
+		}
+	}
+
+	@Benchmark
+	public Integer concurrentNext() {
+		return this.concurrentPool.next();
+	}
+
+	@Benchmark
+	public Integer concurrentCurrent() {
+		return this.concurrentPool.current();
+	}
+
+	@Benchmark
+	public Integer smoothRoundRobinNext() {
+		return this.roundRobinPool.next();
+	}
+
+	@Benchmark
+	public Integer powerOfTwoChoicesNext() {
+		return this.twoChoicesPool.next();
+	}
+}
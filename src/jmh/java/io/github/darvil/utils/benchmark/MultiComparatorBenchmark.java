@@ -0,0 +1,72 @@
+package io.github.darvil.utils.benchmark;
+
+import io.github.darvil.utils.MultiComparator;
+import io.github.darvil.utils.Random;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Measures sorting and ranking elements with a {@link MultiComparator} of 8 predicates. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiComparatorBenchmark {
+	@Param({ "1000", "100000" })
+	private int size;
+
+	private MultiComparator<Integer> comparator;
+	private List<Integer> elements;
+
+	@Setup
+	public void setup() {
+		this.comparator = new MultiComparator<>();
+		for (int bit = 0; bit < 8; bit++) {
+			final int b = bit;
+			this.comparator.addPredicate(i -> (i >> b & 1) == 1, bit % 3);
+		}
+
+		final var generator = Random.seeded(0);
+		this.elements = new ArrayList<>(this.size);
+		for (int i = 0; i < this.size; i++)
+			this.elements.add(generator.nextInt());
+	}
+
+	@Benchmark
+	public int compare() {
+		int result = 0;
+		for (int i = 1; i < 1000; i++)
+			result += this.comparator.compare(this.elements.get(i % this.size), this.elements.get((i - 1) % this.size));
+		return result;
+	}
+
+	@Benchmark
+	public List<Integer> sortWithComparator() {
+		final var list = new ArrayList<>(this.elements);
+		list.sort(this.comparator.build());
+		return list;
+	}
+
+	@Benchmark
+	public List<Integer> sort() {
+		final var list = new ArrayList<>(this.elements);
+		this.comparator.sort(list);
+		return list;
+	}
+
+	@Benchmark
+	public List<Integer> parallelSort() {
+		final var list = new ArrayList<>(this.elements);
+		this.comparator.parallelSort(list);
+		return list;
+	}
+
+	@Benchmark
+	public List<Integer> top20() {
+		return this.comparator.top(this.elements, 20);
+	}
+}
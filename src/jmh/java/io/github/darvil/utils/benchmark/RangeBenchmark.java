@@ -0,0 +1,81 @@
+package io.github.darvil.utils.benchmark;
+
+import io.github.darvil.utils.Range;
+import io.github.darvil.utils.RangeMap;
+import io.github.darvil.utils.RangeSet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/** Measures the iteration of {@link Range}s and the queries of {@link RangeSet} and {@link RangeMap}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RangeBenchmark {
+	@Param({ "1000", "1000000" })
+	private int size;
+
+	private Range range;
+	private RangeSet set;
+	private RangeMap<Integer> map;
+
+	@Setup
+	public void setup() {
+		this.range = Range.from(0).to(this.size);
+
+		final var ranges = new Range[Math.min(this.size / 10, 10_000)];
+		final var builder = RangeMap.<Integer>builder();
+		for (int i = 0; i < ranges.length; i++) {
+			ranges[i] = Range.from(i * 10).to(i * 10 + 4);
+			builder.put(Range.from(i * 10).to(i * 10 + 25), i);
+		}
+
+		this.set = RangeSet.of(ranges);
+		this.map = builder.build();
+	}
+
+	@Benchmark
+	public long iterateBoxed() {
+		long sum = 0;
+		for (int value : this.range)
+			sum += value;
+		return sum;
+	}
+
+	@Benchmark
+	public long iteratePrimitive() {
+		final var iterator = this.range.iterator();
+		long sum = 0;
+		while (iterator.hasNext())
+			sum += iterator.nextInt();
+		return sum;
+	}
+
+	@Benchmark
+	public long stream() {
+		return this.range.stream().asLongStream().sum();
+	}
+
+	@Benchmark
+	public long parallelStream() {
+		return this.range.parallelStream().asLongStream().sum();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(1000)
+	public void rangeSetContains(Blackhole blackhole) {
+		for (int i = 0; i < 1000; i++)
+			blackhole.consume(this.set.contains(i * 97 % this.size));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(1000)
+	public void rangeMapContaining(Blackhole blackhole) {
+		for (int i = 0; i < 1000; i++)
+			this.map.forEachContaining(i * 97 % this.size, (range, value) -> blackhole.consume(value));
+	}
+}
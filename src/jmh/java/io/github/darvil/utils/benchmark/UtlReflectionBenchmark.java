@@ -0,0 +1,61 @@
+package io.github.darvil.utils.benchmark;
+
+import io.github.darvil.utils.MethodIndex;
+import io.github.darvil.utils.UtlReflection;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/** Measures instantiating classes and looking up methods with {@link UtlReflection} and {@link MethodIndex}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtlReflectionBenchmark {
+	private final List<Object> args = List.of("name", new ArrayList<>());
+	private final Supplier<Target> factory = UtlReflection.getFactory(Target.class);
+	private final Object anonymous = new Object() {};
+
+	@Benchmark
+	public Target baseline() {
+		return new Target();
+	}
+
+	@Benchmark
+	public Target instantiate() {
+		return UtlReflection.instantiate(Target.class);
+	}
+
+	@Benchmark
+	public Target instantiateWithArgs() {
+		return UtlReflection.instantiate(Target.class, this.args);
+	}
+
+	@Benchmark
+	public Target factory() {
+		return this.factory.get();
+	}
+
+	@Benchmark
+	public String getSimpleName() {
+		return UtlReflection.getSimpleName(this.anonymous.getClass());
+	}
+
+	@Benchmark
+	public List<Method> findMethods() {
+		return MethodIndex.of(Target.class).findMethods(String.class, List.class);
+	}
+
+	public static class Target {
+		public Target() {}
+		public Target(String name, List<?> values) {}
+
+		public void handle(String name, List<?> values) {}
+	}
+}
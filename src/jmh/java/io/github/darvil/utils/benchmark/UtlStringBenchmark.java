@@ -0,0 +1,77 @@
+package io.github.darvil.utils.benchmark;
+
+import io.github.darvil.utils.UtlString;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/** Measures the methods of {@link UtlString} on texts of different lengths, with escape sequences. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtlStringBenchmark {
+	@Param({ "100", "10000" })
+	private int length;
+
+	private String text, plainText, list;
+
+	@Setup
+	public void setup() {
+		final var words = new String[] { "lorem", "\u001b[1mipsum\u001b[0m", "dolor", "sit", "\u001b[31mamet\u001b[39m" };
+		final var text = new StringBuilder();
+		final var list = new StringBuilder();
+
+		for (int i = 0; text.length() < this.length; i++) {
+			text.append(words[i % words.length]).append(i % 12 == 11 ? '\n' : ' ');
+			list.append(i).append(" , ");
+		}
+
+		this.text = text.toString();
+		this.plainText = UtlString.removeSequences(this.text);
+		this.list = list.toString();
+	}
+
+	@Benchmark
+	public String wrap() {
+		return UtlString.wrap(this.text, 40);
+	}
+
+	@Benchmark
+	public String removeSequences() {
+		return UtlString.removeSequences(this.text);
+	}
+
+	@Benchmark
+	public String removeSequencesUnchanged() {
+		return UtlString.removeSequences(this.plainText);
+	}
+
+	@Benchmark
+	public int visibleLength() {
+		return UtlString.visibleLength(this.text);
+	}
+
+	@Benchmark
+	public String getLongestLine() {
+		return UtlString.getLongestLine(this.text);
+	}
+
+	@Benchmark
+	public String[] splitChar() {
+		return UtlString.split(this.list, ',');
+	}
+
+	@Benchmark
+	public String[] splitString() {
+		return UtlString.split(this.list, ", ", -1);
+	}
+
+	@Benchmark
+	public void center(Blackhole blackhole) {
+		blackhole.consume(UtlString.center("title", 80));
+	}
+}
@@ -0,0 +1,105 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Picks random indices with different probabilities, given by their weights. For weights {@code 1, 3}, the index 1 is
+ * picked three times more often than the index 0.
+ * <p>
+ * The sampler is built once from the weights using the alias method (Vose's variant), so each index is picked in
+ * constant time with a single lookup in two arrays, no matter how many weights there are.
+ * </p>
+ * <pre>{@code
+ * var sampler = AliasSampler.of(0.7, 0.2, 0.1);
+ * var bucket = buckets[sampler.next()];
+ * }</pre>
+ * The sampler is immutable, so it can be shared between threads.
+ */
+public final class AliasSampler {
+	/** The probability of picking each index instead of its alias. */
+	private final double @NotNull [] probabilities;
+	private final int @NotNull [] aliases;
+
+	private AliasSampler(double @NotNull [] weights) {
+		final int size = weights.length;
+		this.probabilities = new double[size];
+		this.aliases = new int[size];
+
+		double total = 0;
+		for (double weight : weights) {
+			if (!(weight >= 0) || Double.isInfinite(weight))
+				throw new IllegalArgumentException("weights must be finite and positive or 0");
+			total += weight;
+		}
+
+		if (!(total > 0))
+			throw new IllegalArgumentException("at least one weight must be greater than 0");
+
+		// scale the weights so that their average is 1, and split them into the ones below and above it
+		final var scaled = new double[size];
+		final var small = new int[size];
+		final var large = new int[size];
+		int smallCount = 0, largeCount = 0;
+
+		for (int i = 0; i < size; i++) {
+			scaled[i] = weights[i] * size / total;
+			if (scaled[i] < 1) small[smallCount++] = i;
+			else large[largeCount++] = i;
+		}
+
+		// each small weight is filled up to 1 with part of a large one, which becomes its alias
+		while (smallCount > 0 && largeCount > 0) {
+			final int less = small[--smallCount];
+			final int more = large[--largeCount];
+
+			this.probabilities[less] = scaled[less];
+			this.aliases[less] = more;
+
+			scaled[more] = scaled[more] + scaled[less] - 1;
+			if (scaled[more] < 1) small[smallCount++] = more;
+			else large[largeCount++] = more;
+		}
+
+		// the remaining ones are 1, except for rounding errors
+		while (largeCount > 0) this.probabilities[large[--largeCount]] = 1;
+		while (smallCount > 0) this.probabilities[small[--smallCount]] = 1;
+	}
+
+	/**
+	 * Creates a new {@link AliasSampler} with the given weights. The weights don't need to add up to any value.
+	 * @param weights The weight of each index. Must be finite and positive or 0, and at least one must be greater
+	 * 	than 0.
+	 * @return The new sampler.
+	 */
+	public static @NotNull AliasSampler of(double @NotNull ... weights) {
+		return new AliasSampler(weights);
+	}
+
+	/**
+	 * Returns a random index, with the probability given by its weight.
+	 * @return The index picked.
+	 */
+	public int next() {
+		return this.next(Random.generator());
+	}
+
+	/**
+	 * Returns a random index using the given generator, with the probability given by its weight.
+	 * @param generator The generator to use.
+	 * @return The index picked.
+	 */
+	public int next(@NotNull RandomGenerator generator) {
+		final int index = generator.nextInt(this.probabilities.length);
+		return generator.nextDouble() < this.probabilities[index] ? index : this.aliases[index];
+	}
+
+	/**
+	 * Returns the number of indices that can be picked.
+	 * @return The number of weights.
+	 */
+	public int size() {
+		return this.probabilities.length;
+	}
+}
@@ -0,0 +1,158 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A thread-safe version of {@link ModifyRecord}. The value and whether it has been modified are stored together and
+ * swapped atomically, so they are always seen consistently by all threads, and no locks are used.
+ *
+ * @param <T> The type of the inner value.
+ */
+public final class AtomicModifyRecord<T> {
+	private static final VarHandle STATE;
+
+	static {
+		try {
+			STATE = MethodHandles.lookup().findVarHandle(AtomicModifyRecord.class, "state", State.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	/**
+	 * The value and its modified flag.
+	 * @param value The value stored.
+	 * @param modified Whether the value has been modified.
+	 * @param <T> The type of the value.
+	 */
+	private record State<T>(T value, boolean modified) {}
+
+	@SuppressWarnings("unused") // accessed through STATE
+	private volatile State<T> state;
+
+	private AtomicModifyRecord(T value) {
+		this.state = new State<>(value, false);
+	}
+
+	/**
+	 * Creates a new {@link AtomicModifyRecord} with the given value.
+	 * @param value The value to store.
+	 * @return A new {@link AtomicModifyRecord} with the given value.
+	 * @param <T> The type of the value.
+	 */
+	public static <T> AtomicModifyRecord<T> of(@NotNull T value) {
+		return new AtomicModifyRecord<>(value);
+	}
+
+	/**
+	 * Creates a new empty {@link AtomicModifyRecord}.
+	 * @return A new empty {@link AtomicModifyRecord}.
+	 * @param <T> The type of the value.
+	 */
+	public static <T> AtomicModifyRecord<T> empty() {
+		return new AtomicModifyRecord<>(null);
+	}
+
+	/**
+	 * Returns the value stored in the {@link AtomicModifyRecord}.
+	 * @return The value stored in the {@link AtomicModifyRecord}.
+	 */
+	public T get() {
+		return this.state.value;
+	}
+
+	/**
+	 * Returns {@code true} if the value has been modified.
+	 * @return {@code true} if the value has been modified.
+	 */
+	public boolean isModified() {
+		return this.state.modified;
+	}
+
+	/**
+	 * Sets the value to the specified value and marks this {@link AtomicModifyRecord} as modified.
+	 * @param value The value to set.
+	 */
+	public void set(T value) {
+		this.state = new State<>(value, true);
+	}
+
+	/**
+	 * Sets the value to the value provided by the specified {@link AtomicModifyRecord} and marks this
+	 * {@link AtomicModifyRecord} as modified.
+	 * @param value The value to set.
+	 */
+	public void set(@NotNull AtomicModifyRecord<T> value) {
+		this.set(value.get());
+	}
+
+	/**
+	 * Sets the value to the specified value and marks this {@link AtomicModifyRecord} as modified, returning the
+	 * previous value.
+	 * @param value The value to set.
+	 * @return The previous value.
+	 */
+	@SuppressWarnings("unchecked")
+	public T getAndSet(T value) {
+		return ((State<T>)STATE.getAndSet(this, new State<>(value, true))).value;
+	}
+
+	/**
+	 * Sets the value to the specified value if it has not been modified. If another thread modifies the value at the
+	 * same time, only one of them succeeds.
+	 *
+	 * @param value The value to set.
+	 * @return {@code true} if the value was set.
+	 */
+	public boolean setIfNotModified(T value) {
+		final var newState = new State<>(value, true);
+
+		while (true) {
+			final var current = this.state;
+			if (current.modified)
+				return false;
+			if (STATE.compareAndSet(this, current, newState))
+				return true;
+		}
+	}
+
+	/**
+	 * Sets the value to the specified value if it has not been modified.
+	 * The value is provided by the specified {@link AtomicModifyRecord}.
+	 *
+	 * @param value The value to set.
+	 * @return {@code true} if the value was set.
+	 */
+	public boolean setIfNotModified(@NotNull AtomicModifyRecord<T> value) {
+		return this.setIfNotModified(value.get());
+	}
+
+	/**
+	 * Sets the value to {@code newValue} and marks this {@link AtomicModifyRecord} as modified, only if the current
+	 * value is {@code expected}. Values are compared by identity ({@code ==}).
+	 *
+	 * @param expected The expected current value.
+	 * @param newValue The value to set.
+	 * @return {@code true} if the value was set.
+	 */
+	public boolean compareAndSet(T expected, T newValue) {
+		final var newState = new State<>(newValue, true);
+
+		while (true) {
+			final var current = this.state;
+			if (current.value != expected)
+				return false;
+			if (STATE.compareAndSet(this, current, newState))
+				return true;
+		}
+	}
+
+	@Override
+	public String toString() {
+		final var state = this.state;
+		return "[" + (state.modified ? "modified" : "clean") + "] " + (state.value == null ? "" : state.value);
+	}
+}
@@ -0,0 +1,149 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * A thread-safe version of {@link LoopPool}, which can be shared between threads to pick elements in a round-robin
+ * fashion. No locks are used.
+ * <p>
+ * Instead of an index, an atomic counter that is never wrapped is kept, and the index is derived from it when needed.
+ * This way, {@link #next()} and {@link #prev()} are a single atomic operation, and no updates are lost. If the number
+ * of elements is a power of two, the index is obtained with a mask instead of a modulo.
+ * </p>
+ * Unlike {@link LoopPool}, negative relative indices always wrap around correctly, so {@code at(-2)} is the element
+ * two positions before the current one.
+ * @param <T> The type of the elements in the sequence.
+ */
+public final class ConcurrentLoopPool<T> {
+	private final T @NotNull [] pool;
+	/** The mask to get the index from the counter, or -1 if the number of elements is not a power of two. */
+	private final int mask;
+	private final AtomicLong counter;
+
+	@SafeVarargs
+	private ConcurrentLoopPool(int startAt, T @NotNull ... pool) {
+		if (pool.length == 0)
+			throw new IllegalArgumentException("pool must have at least one element");
+
+		this.pool = pool;
+		this.mask = Integer.bitCount(pool.length) == 1 ? pool.length - 1 : -1;
+		this.counter = new AtomicLong(this.getValidIndex(startAt));
+	}
+
+	/**
+	 * Creates a new {@link ConcurrentLoopPool} with the given elements. The index will start at 0.
+	 * @param pool The elements to loop through.
+	 * @return A new {@link ConcurrentLoopPool} with the given elements.
+	 * @param <T> The type of the elements.
+	 */
+	@SafeVarargs
+	public static <T> ConcurrentLoopPool<T> of(T... pool) {
+		return new ConcurrentLoopPool<>(0, pool);
+	}
+
+	/**
+	 * Creates a new {@link ConcurrentLoopPool} with the given elements. The index will start at the given index.
+	 * @param startAt The index to start at.
+	 * @param pool The elements to loop through.
+	 * @return A new {@link ConcurrentLoopPool} with the given elements.
+	 * @param <T> The type of the elements.
+	 */
+	@SafeVarargs
+	public static <T> ConcurrentLoopPool<T> of(int startAt, T... pool) {
+		return new ConcurrentLoopPool<>(startAt, pool);
+	}
+
+	/**
+	 * Creates a new {@link ConcurrentLoopPool} with the given elements. The index will start at a random index between 0
+	 * and the number of elements provided.
+	 * @param pool The elements to loop through.
+	 * @return A new {@link ConcurrentLoopPool} with the given elements.
+	 * @param <T> The type of the elements.
+	 */
+	@SafeVarargs
+	public static <T> ConcurrentLoopPool<T> atRandomIndex(T... pool) {
+		return new ConcurrentLoopPool<>(Random.randInt(pool.length), pool);
+	}
+
+	/**
+	 * Creates a new {@link ConcurrentLoopPool} with the given elements. The index will start at a random index between 0
+	 * and the number of elements provided, chosen by the given generator.
+	 * @param generator The generator used to choose the index.
+	 * @param pool The elements to loop through.
+	 * @return A new {@link ConcurrentLoopPool} with the given elements.
+	 * @param <T> The type of the elements.
+	 */
+	@SafeVarargs
+	public static <T> ConcurrentLoopPool<T> atRandomIndex(@NotNull RandomGenerator generator, T... pool) {
+		return new ConcurrentLoopPool<>(Random.randInt(generator, pool.length), pool);
+	}
+
+	/**
+	 * Returns the index in the pool array for the given counter value.
+	 * @param counter The counter value, which may be negative.
+	 * @return A valid index to use in the pool array.
+	 */
+	private int getValidIndex(long counter) {
+		return this.mask != -1 ? (int)(counter & this.mask) : (int)Math.floorMod(counter, (long)this.pool.length);
+	}
+
+	/**
+	 * Sets the internal index to the given index. If the index goes out of bounds, it will always wrap around.
+	 * @param index The index to set.
+	 */
+	public void setIndex(int index) {
+		this.counter.set(this.getValidIndex(index));
+	}
+
+	/**
+	 * Returns the internal index.
+	 * @return The internal index.
+	 */
+	public int getIndex() {
+		return this.getValidIndex(this.counter.get());
+	}
+
+	/**
+	 * Returns the next element in the sequence and increments the internal index.
+	 * @return The next element in the sequence.
+	 */
+	public T next() {
+		return this.pool[this.getValidIndex(this.counter.incrementAndGet())];
+	}
+
+	/**
+	 * Returns the previous element in the sequence and decrements the internal index.
+	 * @return The previous element in the sequence.
+	 */
+	public T prev() {
+		return this.pool[this.getValidIndex(this.counter.decrementAndGet())];
+	}
+
+	/**
+	 * Returns the current element in the sequence.
+	 * @return The current element in the sequence.
+	 */
+	public T current() {
+		return this.pool[this.getIndex()];
+	}
+
+	/**
+	 * Returns the element at the given relative index. The index is relative to the internal index.
+	 * @param relativeIndex The relative index.
+	 * @return The element at the given relative index.
+	 */
+	public T at(int relativeIndex) {
+		return this.pool[this.getValidIndex(this.counter.get() + relativeIndex)];
+	}
+
+	/**
+	 * Returns the number of elements in the sequence.
+	 * @return The number of elements in the sequence.
+	 */
+	public int size() {
+		return this.pool.length;
+	}
+}
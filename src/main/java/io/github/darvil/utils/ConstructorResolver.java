@@ -0,0 +1,214 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Picks the public constructor or static factory method of a class that should be called with arguments of the given
+ * types, following rules similar to the overload resolution of the Java compiler:
+ * <ol>
+ *     <li>Executables that take the arguments without boxing nor varargs.</li>
+ *     <li>Executables that take the arguments with boxing, unboxing and primitive widening.</li>
+ *     <li>Variable arity executables.</li>
+ * </ol>
+ * The first phase that finds an executable is used. Constructors are always preferred over static factory methods,
+ * which must be declared in the class and return an instance of it. If more than one executable is found, the most
+ * specific one is picked.
+ */
+final class ConstructorResolver {
+	private ConstructorResolver() {}
+
+	/** The primitive types that each primitive type can be widened to. */
+	private static final Map<Class<?>, List<Class<?>>> WIDENING = Map.of(
+		byte.class, List.of(short.class, int.class, long.class, float.class, double.class),
+		short.class, List.of(int.class, long.class, float.class, double.class),
+		char.class, List.of(int.class, long.class, float.class, double.class),
+		int.class, List.of(long.class, float.class, double.class),
+		long.class, List.of(float.class, double.class),
+		float.class, List.of(double.class)
+	);
+
+	private static final Map<Class<?>, Class<?>> PRIMITIVES = Map.of(
+		Boolean.class, boolean.class,
+		Byte.class, byte.class,
+		Short.class, short.class,
+		Character.class, char.class,
+		Integer.class, int.class,
+		Long.class, long.class,
+		Float.class, float.class,
+		Double.class, double.class
+	);
+
+	/**
+	 * The executable picked, and whether it must be called with variable arity.
+	 * @param executable The constructor or static method.
+	 * @param varargs Whether the last arguments must be collected into an array.
+	 */
+	record Match(@NotNull Executable executable, boolean varargs) {}
+
+	/**
+	 * Finds the executable to call with arguments of the given types.
+	 * @param clazz The class to instantiate.
+	 * @param argTypes The types of the arguments.
+	 * @return The executable picked, or {@code null} if there is none.
+	 * @throws IllegalArgumentException If more than one executable could be picked.
+	 */
+	static @Nullable Match resolve(@NotNull Class<?> clazz, @NotNull List<Class<?>> argTypes) {
+		final var constructors = Modifier.isAbstract(clazz.getModifiers())
+			? List.<Executable>of()
+			: List.<Executable>of(clazz.getConstructors());
+
+		final var factories = new ArrayList<Executable>();
+		for (var method : clazz.getMethods())
+			if (ConstructorResolver.isFactory(clazz, method)) factories.add(method);
+
+		for (int phase = 0; phase < 3; phase++) {
+			for (var candidates : List.of(constructors, factories)) {
+				final var match = ConstructorResolver.mostSpecific(clazz, candidates, argTypes, phase);
+				if (match != null)
+					return new Match(match, phase == 2);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns {@code true} if the given argument can be passed to a parameter of the given type, allowing unboxing and
+	 * primitive widening.
+	 * @param paramType The type of the parameter.
+	 * @param arg The argument.
+	 * @return {@code true} if the argument can be passed.
+	 */
+	static boolean accepts(@NotNull Class<?> paramType, @Nullable Object arg) {
+		if (!paramType.isPrimitive())
+			return arg == null || paramType.isInstance(arg);
+
+		return arg != null && ConstructorResolver.isConvertible(arg.getClass(), paramType, true);
+	}
+
+	private static boolean isFactory(@NotNull Class<?> clazz, @NotNull Method method) {
+		return Modifier.isStatic(method.getModifiers())
+			&& method.getDeclaringClass() == clazz
+			&& clazz.isAssignableFrom(method.getReturnType());
+	}
+
+	private static @Nullable Executable mostSpecific(
+		@NotNull Class<?> clazz,
+		@NotNull List<Executable> candidates,
+		@NotNull List<Class<?>> argTypes,
+		int phase
+	) {
+		final var applicable = new ArrayList<Executable>();
+		for (var candidate : candidates)
+			if (ConstructorResolver.isApplicable(candidate, argTypes, phase)) applicable.add(candidate);
+
+		if (applicable.size() <= 1)
+			return applicable.isEmpty() ? null : applicable.get(0);
+
+		// the most specific executable is the one whose parameters can be passed to all the others
+		Executable best = null;
+		for (var candidate : applicable) {
+			boolean isMostSpecific = true;
+			for (var other : applicable) {
+				if (other != candidate && !ConstructorResolver.isMoreSpecific(candidate, other, argTypes.size(), phase)) {
+					isMostSpecific = false;
+					break;
+				}
+			}
+
+			if (!isMostSpecific) continue;
+			if (best != null) {
+				best = null;
+				break;
+			}
+			best = candidate;
+		}
+
+		if (best == null)
+			throw new IllegalArgumentException(
+				"Ambiguous call for the class '" + clazz.getName() + "' with the parameters " + argTypes
+					+ ". Candidates: " + applicable
+			);
+
+		return best;
+	}
+
+	private static boolean isApplicable(@NotNull Executable executable, @NotNull List<Class<?>> argTypes, int phase) {
+		final var params = executable.getParameterTypes();
+		final boolean allowBoxing = phase > 0;
+
+		if (phase < 2) {
+			if (params.length != argTypes.size()) return false;
+
+			for (int i = 0; i < params.length; i++)
+				if (!ConstructorResolver.isConvertible(argTypes.get(i), params[i], allowBoxing)) return false;
+
+			return true;
+		}
+
+		if (!executable.isVarArgs() || argTypes.size() < params.length - 1)
+			return false;
+
+		for (int i = 0; i < argTypes.size(); i++)
+			if (!ConstructorResolver.isConvertible(argTypes.get(i), ConstructorResolver.paramType(params, i, true), true))
+				return false;
+
+		return true;
+	}
+
+	/** Returns {@code true} if {@code first} is at least as specific as {@code second}. */
+	private static boolean isMoreSpecific(@NotNull Executable first, @NotNull Executable second, int argCount, int phase) {
+		final var firstParams = first.getParameterTypes();
+		final var secondParams = second.getParameterTypes();
+		final boolean varargs = phase == 2;
+
+		for (int i = 0; i < argCount; i++) {
+			final var firstType = ConstructorResolver.paramType(firstParams, i, varargs);
+			final var secondType = ConstructorResolver.paramType(secondParams, i, varargs);
+			if (!ConstructorResolver.isSubtype(firstType, secondType)) return false;
+		}
+
+		return true;
+	}
+
+	/** Returns the type of the parameter for the argument at the given index. */
+	private static @NotNull Class<?> paramType(@NotNull Class<?> @NotNull [] params, int index, boolean varargs) {
+		if (varargs && index >= params.length - 1)
+			return params[params.length - 1].getComponentType();
+		return params[index];
+	}
+
+	private static boolean isSubtype(@NotNull Class<?> type, @NotNull Class<?> other) {
+		return other.isAssignableFrom(type)
+			|| type.isPrimitive() && ConstructorResolver.WIDENING.getOrDefault(type, List.of()).contains(other);
+	}
+
+	private static boolean isConvertible(@NotNull Class<?> from, @NotNull Class<?> to, boolean allowBoxing) {
+		if (to.isAssignableFrom(from))
+			return true;
+		if (!allowBoxing)
+			return false;
+
+		if (from.isPrimitive()) {
+			if (to.isPrimitive())
+				return ConstructorResolver.isSubtype(from, to);
+
+			// boxing, the wrapper must be assignable to the parameter
+			for (var entry : ConstructorResolver.PRIMITIVES.entrySet())
+				if (entry.getValue() == from) return to.isAssignableFrom(entry.getKey());
+			return false;
+		}
+
+		// unboxing, optionally followed by widening
+		final var primitive = ConstructorResolver.PRIMITIVES.get(from);
+		return primitive != null && to.isPrimitive() && ConstructorResolver.isSubtype(primitive, to);
+	}
+}
@@ -0,0 +1,69 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A record that stores two {@code int}s, without boxing them.
+ * <p>
+ * Both values can also be packed in a single {@code long} with {@link #pack(int, int)}, which avoids creating any
+ * object at all. Packed values sort by the first value, and then by the second one if it is not negative.
+ * </p>
+ * @param first The first value.
+ * @param second The second value.
+ */
+public record IntPair(int first, int second) {
+	/**
+	 * Packs the given values in a single {@code long}. The first value is stored in the upper 32 bits, and the second
+	 * one in the lower 32 bits.
+	 * @param first The first value.
+	 * @param second The second value.
+	 * @return The packed values.
+	 */
+	public static long pack(int first, int second) {
+		return (long)first << 32 | (second & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Returns the first value of a {@code long} created by {@link #pack(int, int)}.
+	 * @param packed The packed values.
+	 * @return The first value.
+	 */
+	public static int unpackFirst(long packed) {
+		return (int)(packed >> 32);
+	}
+
+	/**
+	 * Returns the second value of a {@code long} created by {@link #pack(int, int)}.
+	 * @param packed The packed values.
+	 * @return The second value.
+	 */
+	public static int unpackSecond(long packed) {
+		return (int)packed;
+	}
+
+	/**
+	 * Creates an {@link IntPair} from a {@code long} created by {@link #pack(int, int)}.
+	 * @param packed The packed values.
+	 * @return A new {@link IntPair} with the values.
+	 */
+	public static @NotNull IntPair unpack(long packed) {
+		return new IntPair(IntPair.unpackFirst(packed), IntPair.unpackSecond(packed));
+	}
+
+	/**
+	 * Packs the values of this pair in a single {@code long}.
+	 * @return The packed values.
+	 * @see #pack(int, int)
+	 */
+	public long pack() {
+		return IntPair.pack(this.first, this.second);
+	}
+
+	/**
+	 * Returns a {@link Pair} with the values of this pair, boxed.
+	 * @return A new {@link Pair} with the values.
+	 */
+	public @NotNull Pair<Integer, Integer> toPair() {
+		return new Pair<>(this.first, this.second);
+	}
+}
@@ -0,0 +1,247 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A growable list of pairs of {@code int}s, which stores the first and second values of the pairs in two separate
+ * arrays. No values are boxed, and no objects are created for each pair.
+ * <p>
+ * When {@link IntPair}s are needed, {@link #asList()} returns a view of this list that creates them as they are
+ * accessed, without copying the values.
+ * </p>
+ * @see PairList
+ */
+public final class IntPairList {
+	private static final int DEFAULT_CAPACITY = 10;
+
+	private int @NotNull [] firsts;
+	private int @NotNull [] seconds;
+	private int size;
+
+	private IntPairList(int capacity) {
+		if (capacity < 0)
+			throw new IllegalArgumentException("capacity must be positive or 0");
+
+		this.firsts = new int[capacity];
+		this.seconds = new int[capacity];
+	}
+
+	/**
+	 * Creates a new empty {@link IntPairList}.
+	 * @return A new empty {@link IntPairList}.
+	 */
+	public static @NotNull IntPairList empty() {
+		return new IntPairList(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new empty {@link IntPairList} with room for the given number of pairs before growing.
+	 * @param capacity The initial capacity.
+	 * @return A new empty {@link IntPairList}.
+	 */
+	public static @NotNull IntPairList empty(int capacity) {
+		return new IntPairList(capacity);
+	}
+
+	/**
+	 * Adds a pair to the end of the list.
+	 * @param first The first value.
+	 * @param second The second value.
+	 */
+	public void add(int first, int second) {
+		if (this.size == this.firsts.length)
+			this.grow();
+
+		this.firsts[this.size] = first;
+		this.seconds[this.size++] = second;
+	}
+
+	/**
+	 * Adds a pair to the end of the list.
+	 * @param pair The pair to add.
+	 */
+	public void add(@NotNull IntPair pair) {
+		this.add(pair.first(), pair.second());
+	}
+
+	/**
+	 * Returns the first value of the pair at the given index.
+	 * @param index The index of the pair.
+	 * @return The first value.
+	 */
+	public int getFirst(int index) {
+		this.checkIndex(index);
+		return this.firsts[index];
+	}
+
+	/**
+	 * Returns the second value of the pair at the given index.
+	 * @param index The index of the pair.
+	 * @return The second value.
+	 */
+	public int getSecond(int index) {
+		this.checkIndex(index);
+		return this.seconds[index];
+	}
+
+	/**
+	 * Returns the pair at the given index. A new {@link IntPair} is created each time.
+	 * @param index The index of the pair.
+	 * @return The pair at the given index.
+	 */
+	public @NotNull IntPair get(int index) {
+		this.checkIndex(index);
+		return new IntPair(this.firsts[index], this.seconds[index]);
+	}
+
+	/**
+	 * Sets the first value of the pair at the given index.
+	 * @param index The index of the pair.
+	 * @param first The new first value.
+	 */
+	public void setFirst(int index, int first) {
+		this.checkIndex(index);
+		this.firsts[index] = first;
+	}
+
+	/**
+	 * Sets the second value of the pair at the given index.
+	 * @param index The index of the pair.
+	 * @param second The new second value.
+	 */
+	public void setSecond(int index, int second) {
+		this.checkIndex(index);
+		this.seconds[index] = second;
+	}
+
+	/**
+	 * Returns the number of pairs in the list.
+	 * @return The number of pairs in the list.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/** Removes all the pairs from the list. */
+	public void clear() {
+		this.size = 0;
+	}
+
+	/**
+	 * Returns a copy of the first values of the pairs.
+	 * @return The first values.
+	 */
+	public int @NotNull [] firsts() {
+		return Arrays.copyOf(this.firsts, this.size);
+	}
+
+	/**
+	 * Returns a copy of the second values of the pairs.
+	 * @return The second values.
+	 */
+	public int @NotNull [] seconds() {
+		return Arrays.copyOf(this.seconds, this.size);
+	}
+
+	/**
+	 * Sorts the pairs by their first value, in ascending order. The sort is stable.
+	 * @return The permutation applied. The pair at index {@code i} was previously at index {@code result[i]}.
+	 */
+	public int @NotNull [] sortByFirst() {
+		return this.sortBy(this.firsts);
+	}
+
+	/**
+	 * Sorts the pairs by their second value, in ascending order. The sort is stable.
+	 * @return The permutation applied. The pair at index {@code i} was previously at index {@code result[i]}.
+	 */
+	public int @NotNull [] sortBySecond() {
+		return this.sortBy(this.seconds);
+	}
+
+	/**
+	 * Searches for a pair with the given first value, in the same way as {@link Arrays#binarySearch(int[], int)}.
+	 * The list must be sorted by the first value.
+	 * @param key The first value to search for.
+	 * @return The index of a pair with the value, or {@code -(insertion point) - 1} if there is none.
+	 */
+	public int binarySearchFirst(int key) {
+		return Arrays.binarySearch(this.firsts, 0, this.size, key);
+	}
+
+	/**
+	 * Searches for a pair with the given second value, in the same way as {@link Arrays#binarySearch(int[], int)}.
+	 * The list must be sorted by the second value.
+	 * @param key The second value to search for.
+	 * @return The index of a pair with the value, or {@code -(insertion point) - 1} if there is none.
+	 */
+	public int binarySearchSecond(int key) {
+		return Arrays.binarySearch(this.seconds, 0, this.size, key);
+	}
+
+	/**
+	 * Returns a view of this list as a list of {@link IntPair}s. The values are not copied, and an {@link IntPair} is
+	 * only created when an element is accessed. Changes to this list are visible in the view. The view is unmodifiable.
+	 * @return A view of this list.
+	 */
+	public @NotNull List<@NotNull IntPair> asList() {
+		return new PairView();
+	}
+
+	@Override
+	public String toString() {
+		return this.asList().toString();
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= this.size)
+			throw new IllegalArgumentException("index must be between 0 and " + (this.size - 1));
+	}
+
+	private void grow() {
+		final int capacity = Math.max(DEFAULT_CAPACITY, this.firsts.length + (this.firsts.length >> 1));
+		this.firsts = Arrays.copyOf(this.firsts, capacity);
+		this.seconds = Arrays.copyOf(this.seconds, capacity);
+	}
+
+	private int @NotNull [] sortBy(int @NotNull [] column) {
+		// the value and the index are packed in a single long, so ties keep their order
+		final var packed = new long[this.size];
+		for (int i = 0; i < this.size; i++)
+			packed[i] = IntPair.pack(column[i], i);
+		Arrays.sort(packed);
+
+		final var order = new int[this.size];
+		final var newFirsts = new int[this.firsts.length];
+		final var newSeconds = new int[this.seconds.length];
+		for (int i = 0; i < this.size; i++) {
+			final int index = order[i] = IntPair.unpackSecond(packed[i]);
+			newFirsts[i] = this.firsts[index];
+			newSeconds[i] = this.seconds[index];
+		}
+
+		this.firsts = newFirsts;
+		this.seconds = newSeconds;
+		return order;
+	}
+
+	private final class PairView extends AbstractList<IntPair> implements RandomAccess {
+		@Override
+		public IntPair get(int index) {
+			if (index < 0 || index >= IntPairList.this.size)
+				throw new IndexOutOfBoundsException(index);
+
+			return IntPairList.this.get(index);
+		}
+
+		@Override
+		public int size() {
+			return IntPairList.this.size;
+		}
+	}
+}
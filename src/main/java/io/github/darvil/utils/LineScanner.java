@@ -0,0 +1,126 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.CharBuffer;
+
+/**
+ * Walks through the lines of a text without copying them. Lines are separated by newlines.
+ * <p>
+ * The scanner starts before the first line. Each call to {@link #next()} moves it to the next line, whose
+ * bounds in the text are given by {@link #start()} and {@link #end()}:
+ * </p>
+ * <pre>{@code
+ * var scanner = new LineScanner(text);
+ * while (scanner.next()) {
+ *     var line = scanner.line();
+ *     ...
+ * }
+ * }</pre>
+ * A text always has at least one line, which may be empty.
+ */
+public class LineScanner {
+	private final @NotNull CharSequence source;
+	/** The start (inclusive) and end (exclusive) of the current line. */
+	private int start, end;
+
+	/**
+	 * Creates a new {@link LineScanner} over the given text.
+	 * @param source The text to scan.
+	 */
+	public LineScanner(@NotNull CharSequence source) {
+		this.source = source;
+		this.reset();
+	}
+
+	/** Moves the scanner back before the first line. */
+	public void reset() {
+		this.start = 0;
+		this.end = -1;
+	}
+
+	/**
+	 * Moves the scanner to the next line.
+	 * @return {@code true} if there was a next line, {@code false} if the end of the text was reached.
+	 */
+	public boolean next() {
+		final int length = this.source.length();
+		if (this.end >= length)
+			return false;
+
+		this.start = this.end + 1;
+		this.end = this.start;
+		while (this.end < length && this.source.charAt(this.end) != '\n')
+			this.end++;
+
+		return true;
+	}
+
+	/**
+	 * Moves the scanner to the line with the highest length, not counting escape sequences.
+	 * If multiple lines have the same length, the first one is chosen.
+	 * @see UtlString#visibleLength(CharSequence)
+	 */
+	public void findLongest() {
+		this.findMax(false);
+	}
+
+	/**
+	 * Moves the scanner to the line that takes the highest number of columns when displayed.
+	 * If multiple lines have the same width, the first one is chosen.
+	 * @see DisplayWidth
+	 */
+	public void findWidest() {
+		this.findMax(true);
+	}
+
+	private void findMax(boolean measureDisplayWidth) {
+		int maxStart = 0, maxEnd = 0, max = -1;
+
+		this.reset();
+		while (this.next()) {
+			final int size = measureDisplayWidth ? this.displayWidth() : this.visibleLength();
+			if (size > max) {
+				maxStart = this.start;
+				maxEnd = this.end;
+				max = size;
+			}
+		}
+
+		this.start = maxStart;
+		this.end = maxEnd;
+	}
+
+	/** Returns the index in the text where the current line starts (inclusive). */
+	public int start() {
+		return this.start;
+	}
+
+	/** Returns the index in the text where the current line ends (exclusive). The newline is not included. */
+	public int end() {
+		return this.end;
+	}
+
+	/** Returns the length of the current line. */
+	public int length() {
+		return this.end - this.start;
+	}
+
+	/** Returns the length of the current line, not counting escape sequences. */
+	public int visibleLength() {
+		return UtlString.visibleLength(this.source, this.start, this.end, false);
+	}
+
+	/**
+	 * Returns the number of columns that the current line takes when displayed.
+	 * @see DisplayWidth
+	 */
+	public int displayWidth() {
+		return DisplayWidth.of(this.source, this.start, this.end);
+	}
+
+	/** Returns a view of the current line. The characters of the text are not copied. */
+	public @NotNull CharSequence line() {
+		return CharBuffer.wrap(this.source, this.start, this.end);
+	}
+}
@@ -0,0 +1,18 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A record that stores two {@code long}s, without boxing them.
+ * @param first The first value.
+ * @param second The second value.
+ */
+public record LongPair(long first, long second) {
+	/**
+	 * Returns a {@link Pair} with the values of this pair, boxed.
+	 * @return A new {@link Pair} with the values.
+	 */
+	public @NotNull Pair<Long, Long> toPair() {
+		return new Pair<>(this.first, this.second);
+	}
+}
@@ -2,6 +2,8 @@ package io.github.darvil.utils;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.random.RandomGenerator;
+
 /**
  * A sequence of elements that can be looped through. The sequence can be looped through in both directions.
  * This may be done by calling {@link #next()} or {@link #prev()}.
@@ -56,6 +58,19 @@ public class LoopPool<T> {
 		return new LoopPool<>(Random.randInt(pool.length), pool);
 	}
 
+	/**
+	 * Creates a new {@link LoopPool} with the given elements. The index will start at a random index between 0 and the number
+	 * of elements provided, chosen by the given generator.
+	 * @param generator The generator used to choose the index.
+	 * @param pool The elements to loop through.
+	 * @return A new {@link LoopPool} with the given elements.
+	 * @param <T> The type of the elements.
+	 */
+	@SafeVarargs
+	public static <T> LoopPool<T> atRandomIndex(@NotNull RandomGenerator generator, T... pool) {
+		return new LoopPool<>(Random.randInt(generator, pool.length), pool);
+	}
+
 	/**
 	 * Returns a valid index to use in the pool array. If the index goes out of bounds, it will always wrap around.
 	 * @param index The index to validate.
@@ -0,0 +1,207 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index of the public methods of a class, which can be queried by name and parameter types. The index of each
+ * class is built only once, and the results of each query are cached, so looking up the same methods many times
+ * is cheap. Queries with parameter types that do not come from the class loader of the class (or one of its parents)
+ * are not cached, so the index never keeps other class loaders alive.
+ * <pre>{@code
+ * var handlers = MethodIndex.of(Commands.class).findMethods(String.class, Integer.class);
+ * }</pre>
+ * The methods found can also be obtained as {@link MethodHandle}s, which are also cached.
+ */
+public final class MethodIndex {
+	private static final ClassValue<MethodIndex> INDICES = new ClassValue<>() {
+		@Override
+		protected MethodIndex computeValue(@NotNull Class<?> type) {
+			return new MethodIndex(type);
+		}
+	};
+
+	private final @NotNull Class<?> clazz;
+	private final @NotNull List<@NotNull Method> methods;
+	/** The methods of the class grouped by their name. */
+	private final @NotNull Map<String, List<Method>> methodsByName = new HashMap<>();
+	/** The methods of the class grouped by their number of parameters. */
+	private final @NotNull Map<Integer, List<Method>> methodsByParameterCount = new HashMap<>();
+	/** The results of the queries whose parameter types are visible from the class. */
+	private final @NotNull Map<Query, List<Method>> queries = new ConcurrentHashMap<>();
+	private final @NotNull Map<Method, MethodHandle> handles = new ConcurrentHashMap<>();
+
+	/**
+	 * A query for methods.
+	 * @param name The name of the methods, or {@code null} for any name.
+	 * @param paramTypes The types of the parameters.
+	 */
+	private record Query(@Nullable String name, @NotNull List<Class<?>> paramTypes) {}
+
+	private MethodIndex(@NotNull Class<?> clazz) {
+		this.clazz = clazz;
+		this.methods = List.of(clazz.getMethods());
+
+		for (var method : this.methods) {
+			this.methodsByName.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(method);
+			this.methodsByParameterCount.computeIfAbsent(method.getParameterCount(), k -> new ArrayList<>()).add(method);
+		}
+
+		this.methodsByName.replaceAll((k, v) -> List.copyOf(v));
+		this.methodsByParameterCount.replaceAll((k, v) -> List.copyOf(v));
+	}
+
+	/**
+	 * Returns the index of the given class. It is only built the first time it is requested.
+	 * @param clazz The class to get the index of.
+	 * @return The index of the class.
+	 */
+	public static @NotNull MethodIndex of(@NotNull Class<?> clazz) {
+		return MethodIndex.INDICES.get(clazz);
+	}
+
+	/** Returns the class of this index. */
+	public @NotNull Class<?> getIndexedClass() {
+		return this.clazz;
+	}
+
+	/**
+	 * Returns all the public methods of the class, including the inherited ones.
+	 * @return An unmodifiable list of the methods.
+	 */
+	public @NotNull List<@NotNull Method> getMethods() {
+		return this.methods;
+	}
+
+	/**
+	 * Returns all the public methods of the class with the given name.
+	 * @param name The name of the methods.
+	 * @return An unmodifiable list of the methods.
+	 */
+	public @NotNull List<@NotNull Method> getMethods(@NotNull String name) {
+		return this.methodsByName.getOrDefault(name, List.of());
+	}
+
+	/**
+	 * Returns all the public methods of the class whose parameters match the given types, in the same way as
+	 * {@link UtlReflection#hasParameters(Method, Class[])}.
+	 * @param paramTypes The types of the parameters.
+	 * @return An unmodifiable list of the methods.
+	 */
+	public @NotNull List<@NotNull Method> findMethods(@NotNull Class<?> @NotNull ... paramTypes) {
+		return this.find(new Query(null, List.of(paramTypes)));
+	}
+
+	/**
+	 * Returns all the public methods of the class with the given name whose parameters match the given types, in the
+	 * same way as {@link UtlReflection#hasParameters(Method, Class[])}.
+	 * @param name The name of the methods.
+	 * @param paramTypes The types of the parameters.
+	 * @return An unmodifiable list of the methods.
+	 */
+	public @NotNull List<@NotNull Method> findMethods(@NotNull String name, @NotNull Class<?> @NotNull ... paramTypes) {
+		return this.find(new Query(name, List.of(paramTypes)));
+	}
+
+	private @NotNull List<Method> find(@NotNull Query query) {
+		var result = this.queries.get(query);
+		if (result != null)
+			return result;
+
+		final var paramTypes = query.paramTypes.toArray(Class<?>[]::new);
+		final var candidates = query.name == null
+			? this.methodsByParameterCount.getOrDefault(paramTypes.length, List.of())
+			: this.getMethods(query.name);
+
+		final var found = new ArrayList<Method>();
+		for (var method : candidates)
+			if (UtlReflection.hasParameters(method, paramTypes)) found.add(method);
+
+		result = List.copyOf(found);
+		if (UtlReflection.areVisibleFrom(query.paramTypes, this.clazz))
+			this.queries.putIfAbsent(query, result);
+		return result;
+	}
+
+	/**
+	 * Returns a {@link MethodHandle} for the given method of this class.
+	 * @param method The method. Must be one of the methods of this index.
+	 * @return The method handle. If the method is not static, it takes the instance as its first argument.
+	 */
+	public @NotNull MethodHandle getHandle(@NotNull Method method) {
+		var handle = this.handles.get(method);
+		if (handle != null)
+			return handle;
+
+		if (!method.getDeclaringClass().isAssignableFrom(this.clazz) || !this.methods.contains(method))
+			throw new IllegalArgumentException("method '" + method.getName() + "' is not a public method of the class '"
+				+ this.clazz.getName() + "'");
+
+		try {
+			// method handles require the module of the class to be readable, unlike reflection
+			MethodIndex.class.getModule().addReads(method.getDeclaringClass().getModule());
+			handle = MethodHandles.lookup().unreflect(method);
+		} catch (IllegalAccessException e) {
+			throw new RuntimeException(
+				"Unable to gain access to the class '" + this.clazz.getName()
+					+ "'. Please make sure this class is visible to external dependencies.",
+				e
+			);
+		}
+
+		this.handles.putIfAbsent(method, handle);
+		return handle;
+	}
+
+	/**
+	 * Returns a {@link MethodHandle} for the given method, bound to the given instance. The handle only takes the
+	 * arguments of the method.
+	 * @param method The method. Must be one of the methods of this index, and not static.
+	 * @param instance The instance to call the method on.
+	 * @return The bound method handle.
+	 */
+	public @NotNull MethodHandle bind(@NotNull Method method, @NotNull Object instance) {
+		if (Modifier.isStatic(method.getModifiers()))
+			throw new IllegalArgumentException("method '" + method.getName() + "' is static");
+
+		return this.getHandle(method).bindTo(instance);
+	}
+
+	/**
+	 * Returns the handles of all the public methods of the class with the given name whose parameters match the given
+	 * types, bound to the given instance. Static methods are not bound.
+	 * @param instance The instance to call the methods on.
+	 * @param name The name of the methods.
+	 * @param paramTypes The types of the parameters.
+	 * @return The method handles.
+	 * @see #findMethods(String, Class[])
+	 */
+	public @NotNull List<@NotNull MethodHandle> bindAll(
+		@NotNull Object instance,
+		@NotNull String name,
+		@NotNull Class<?> @NotNull ... paramTypes
+	) {
+		final var methods = this.findMethods(name, paramTypes);
+		final var result = new ArrayList<MethodHandle>(methods.size());
+
+		for (var method : methods)
+			result.add(Modifier.isStatic(method.getModifiers()) ? this.getHandle(method) : this.bind(method, instance));
+
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "MethodIndex[" + this.clazz.getName() + "]";
+	}
+}
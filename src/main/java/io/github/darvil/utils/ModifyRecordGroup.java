@@ -0,0 +1,196 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A fixed number of values that behave like {@link ModifyRecord}s, each one knowing whether it has been modified.
+ * <p>
+ * Values are stored in a single array, and the modified flags in a bitset, so a group is much lighter than the
+ * same number of {@link ModifyRecord}s. Finding the modified values, merging groups and resetting the flags only
+ * check 64 flags at a time, so they are cheap even on groups with thousands of values.
+ * </p>
+ * @param <T> The type of the values.
+ */
+public final class ModifyRecordGroup<T> {
+	private final Object @NotNull [] values;
+	/** The modified flags. The flag of the value at index {@code i} is bit {@code i % 64} of word {@code i / 64}. */
+	private final long @NotNull [] modified;
+
+	private ModifyRecordGroup(Object @NotNull [] values) {
+		this.values = values;
+		this.modified = new long[(values.length + 63) >>> 6];
+	}
+
+	/**
+	 * Creates a new {@link ModifyRecordGroup} with the given values. None of them are marked as modified.
+	 * @param values The values to store.
+	 * @return A new {@link ModifyRecordGroup} with the given values.
+	 * @param <T> The type of the values.
+	 */
+	@SafeVarargs
+	public static <T> ModifyRecordGroup<T> of(T @NotNull ... values) {
+		return new ModifyRecordGroup<>(Arrays.copyOf(values, values.length, Object[].class));
+	}
+
+	/**
+	 * Creates a new {@link ModifyRecordGroup} with the given number of values, all of them {@code null}.
+	 * @param size The number of values.
+	 * @return A new empty {@link ModifyRecordGroup}.
+	 * @param <T> The type of the values.
+	 */
+	public static <T> ModifyRecordGroup<T> empty(int size) {
+		if (size < 0)
+			throw new IllegalArgumentException("size must be positive or 0");
+
+		return new ModifyRecordGroup<>(new Object[size]);
+	}
+
+	/**
+	 * Returns the value at the given index.
+	 * @param index The index of the value.
+	 * @return The value at the given index.
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		this.checkIndex(index);
+		return (T)this.values[index];
+	}
+
+	/**
+	 * Sets the value at the given index and marks it as modified.
+	 * @param index The index of the value.
+	 * @param value The value to set.
+	 */
+	public void set(int index, T value) {
+		this.checkIndex(index);
+		this.values[index] = value;
+		this.modified[index >>> 6] |= 1L << index;
+	}
+
+	/**
+	 * Sets the value at the given index if it has not been modified.
+	 * @param index The index of the value.
+	 * @param value The value to set.
+	 */
+	public void setIfNotModified(int index, T value) {
+		if (!this.isModified(index))
+			this.set(index, value);
+	}
+
+	/**
+	 * Returns {@code true} if the value at the given index has been modified.
+	 * @param index The index of the value.
+	 * @return {@code true} if the value has been modified.
+	 */
+	public boolean isModified(int index) {
+		this.checkIndex(index);
+		return (this.modified[index >>> 6] & (1L << index)) != 0;
+	}
+
+	/**
+	 * Returns {@code true} if any of the values has been modified.
+	 * @return {@code true} if any of the values has been modified.
+	 */
+	public boolean isAnyModified() {
+		for (long word : this.modified)
+			if (word != 0) return true;
+		return false;
+	}
+
+	/**
+	 * Returns the number of values that have been modified.
+	 * @return The number of values that have been modified.
+	 */
+	public int getModifiedCount() {
+		int count = 0;
+		for (long word : this.modified)
+			count += Long.bitCount(word);
+		return count;
+	}
+
+	/**
+	 * Returns the indices of the values that have been modified, in ascending order.
+	 * @return The indices of the modified values.
+	 */
+	public int @NotNull [] getModifiedIndices() {
+		final var indices = new int[this.getModifiedCount()];
+		int count = 0;
+
+		for (int w = 0; w < this.modified.length; w++) {
+			for (long word = this.modified[w]; word != 0; word &= word - 1)
+				indices[count++] = (w << 6) + Long.numberOfTrailingZeros(word);
+		}
+
+		return indices;
+	}
+
+	/**
+	 * Calls the given consumer for each value that has been modified, along with its index, in ascending order.
+	 * @param consumer The consumer to call.
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEachModified(@NotNull ObjIntConsumer<? super T> consumer) {
+		for (int w = 0; w < this.modified.length; w++) {
+			for (long word = this.modified[w]; word != 0; word &= word - 1) {
+				final int index = (w << 6) + Long.numberOfTrailingZeros(word);
+				consumer.accept((T)this.values[index], index);
+			}
+		}
+	}
+
+	/**
+	 * Copies the values that have been modified in the given group into this group, except the ones that have already
+	 * been modified in this group. This is the same as calling {@link #setIfNotModified(int, Object)} with each
+	 * modified value of the given group. Useful for applying layers of settings, from the most specific to the least.
+	 * @param other The group to take the values from. Must have the same number of values.
+	 */
+	public void merge(@NotNull ModifyRecordGroup<? extends T> other) {
+		if (other.values.length != this.values.length)
+			throw new IllegalArgumentException("groups must have the same number of values");
+
+		for (int w = 0; w < this.modified.length; w++) {
+			final long toCopy = other.modified[w] & ~this.modified[w];
+
+			for (long word = toCopy; word != 0; word &= word - 1) {
+				final int index = (w << 6) + Long.numberOfTrailingZeros(word);
+				this.values[index] = other.values[index];
+			}
+
+			this.modified[w] |= toCopy;
+		}
+	}
+
+	/** Marks all the values as not modified. The values are kept. */
+	public void resetModified() {
+		Arrays.fill(this.modified, 0);
+	}
+
+	/**
+	 * Returns the number of values in this group.
+	 * @return The number of values in this group.
+	 */
+	public int size() {
+		return this.values.length;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= this.values.length)
+			throw new IllegalArgumentException("index must be between 0 and " + (this.values.length - 1));
+	}
+
+	@Override
+	public String toString() {
+		final var builder = new StringBuilder("[");
+
+		for (int i = 0; i < this.values.length; i++) {
+			if (i > 0) builder.append(", ");
+			builder.append(this.isModified(i) ? "modified" : "clean").append(": ")
+				.append(this.values[i] == null ? "" : this.values[i]);
+		}
+
+		return builder.append(']').toString();
+	}
+}
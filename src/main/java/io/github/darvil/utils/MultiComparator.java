@@ -1,16 +1,34 @@
 package io.github.darvil.utils;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntBinaryOperator;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 /**
  * A class that allows you to compare two objects using a list of predicates.
- *
+ * <p>
+ * Use {@link #build()} to get an immutable {@link Comparator} with the predicates already sorted, which can be used
+ * with {@link java.util.Collections#sort(java.util.List, Comparator)} or streams.
+ * </p>
+ * <p>
+ * To sort many objects at once, {@link #sort(List)} is faster, since each predicate is only tested once per object.
+ * If only the first few objects are needed, {@link #top(Collection, int)} avoids sorting all of them.
+ * </p>
  * @param <T> The type of the objects to compare.
  */
 public class MultiComparator<T> {
 	private final ArrayList<Pred<T>> predicates = new ArrayList<>();
+	/** The compiled form of the predicates. Discarded when a predicate is added. */
+	private @Nullable Compiled<T> compiled;
 
 	/**
 	 * A record that stores a predicate and its priority.
@@ -34,6 +52,7 @@ public class MultiComparator<T> {
 	 */
 	public MultiComparator<T> addPredicate(Predicate<T> p, int priority) {
 		this.predicates.add(new Pred<>(priority, p));
+		this.compiled = null;
 		return this;
 	}
 
@@ -55,16 +74,344 @@ public class MultiComparator<T> {
 	 * 	0 if they are equal.
 	 */
 	public int compare(T first, T second) {
-		this.predicates.sort(Comparator.comparingInt(Pred::priority));
-		for (final Pred<T> p : this.predicates) {
-			boolean firstTest = p.predicateCb.test(first);
-			boolean secondTest = p.predicateCb.test(second);
+		return this.build().compare(first, second);
+	}
+
+	/**
+	 * Returns an immutable {@link Comparator} that compares objects in the same way as {@link #compare(Object, Object)},
+	 * with the predicates added so far. The predicates are sorted only once, so this should be used when comparing
+	 * many objects.
+	 * <p>
+	 * Predicates added after calling this method are not used by the returned comparator.
+	 * </p>
+	 * @return The compiled comparator.
+	 */
+	public @NotNull Comparator<T> build() {
+		return this.compile();
+	}
+
+	private @NotNull Compiled<T> compile() {
+		var compiled = this.compiled;
+		if (compiled == null) {
+			this.predicates.sort(Comparator.comparingInt(Pred::priority));
+			this.compiled = compiled = new Compiled<>(this.predicates);
+		}
+		return compiled;
+	}
+
+	/**
+	 * Sorts the given list using the predicates added to this comparator. The result is the same as sorting it with
+	 * {@link #build()}, but each predicate is only tested once per element. The sort is stable.
+	 * @param list The list to sort.
+	 */
+	public void sort(@NotNull List<T> list) {
+		this.sort(list, false);
+	}
+
+	/**
+	 * Sorts the given list using the predicates added to this comparator, testing the predicates and sorting the
+	 * elements in parallel. The predicates must be thread-safe. The sort is stable.
+	 * @param list The list to sort.
+	 * @see #sort(List)
+	 */
+	public void parallelSort(@NotNull List<T> list) {
+		this.sort(list, true);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void sort(@NotNull List<T> list, boolean parallel) {
+		final var elements = list.toArray();
+		final var order = this.compile().sortedOrder(elements, parallel);
+
+		final var iterator = list.listIterator();
+		for (int index : order) {
+			iterator.next();
+			iterator.set((T)elements[index]);
+		}
+	}
+
+	/**
+	 * Returns the first {@code k} elements of the given collection, in the order they would be after sorting it with
+	 * {@link #sort(List)}. Only {@code k} elements are kept while selecting them, so this is faster than sorting the
+	 * whole collection when {@code k} is small.
+	 * @param elements The elements to select from.
+	 * @param k The number of elements to return. If there are fewer elements, all of them are returned.
+	 * @return A new list with the selected elements, sorted.
+	 */
+	public @NotNull List<T> top(@NotNull Collection<T> elements, int k) {
+		return this.top(elements, k, false);
+	}
+
+	/**
+	 * Returns the first {@code k} elements of the given collection, in the order they would be after sorting it with
+	 * {@link #sort(List)}. The predicates are tested in parallel, and each part of the collection is selected from
+	 * in parallel before merging the results. The predicates must be thread-safe.
+	 * @param elements The elements to select from.
+	 * @param k The number of elements to return. If there are fewer elements, all of them are returned.
+	 * @return A new list with the selected elements, sorted.
+	 * @see #top(Collection, int)
+	 */
+	public @NotNull List<T> parallelTop(@NotNull Collection<T> elements, int k) {
+		return this.top(elements, k, true);
+	}
+
+	@SuppressWarnings("unchecked")
+	private @NotNull List<T> top(@NotNull Collection<T> elements, int k, boolean parallel) {
+		if (k < 0)
+			throw new IllegalArgumentException("k must be positive or 0");
+
+		final var array = elements.toArray();
+		final var order = this.compile().topOrder(array, k, parallel);
+
+		final var result = new ArrayList<T>(order.length);
+		for (int index : order)
+			result.add((T)array[index]);
+		return result;
+	}
+
+	/**
+	 * A comparator with the predicates already sorted in a flat array.
+	 * @param <T> The type of the objects to compare.
+	 */
+	private static final class Compiled<T> implements Comparator<T> {
+		/** The minimum number of elements handled by each task when selecting in parallel. */
+		private static final int PARALLEL_CHUNK_SIZE = 1 << 13;
+
+		private final Predicate<T> @NotNull [] predicates;
+
+		@SuppressWarnings("unchecked")
+		Compiled(@NotNull ArrayList<Pred<T>> predicates) {
+			this.predicates = predicates.stream().map(Pred::predicateCb).toArray(Predicate[]::new);
+		}
+
+		/** Returns the number of longs needed to store the results of all predicates for an element. */
+		int keyWords() {
+			return Math.max(1, (this.predicates.length + 63) / 64);
+		}
+
+		/**
+		 * Tests all predicates on each element, and packs the results into keys of {@link #keyWords()} longs per
+		 * element. The result of the first predicate is stored in the highest bit of the first long, so comparing the
+		 * keys as unsigned numbers gives the same result as {@link #compare(Object, Object)}, but reversed.
+		 */
+		@SuppressWarnings("unchecked")
+		long @NotNull [] computeKeys(@NotNull Object @NotNull [] elements, boolean parallel) {
+			final int words = this.keyWords();
+			final var keys = new long[elements.length * words];
+
+			var indices = IntStream.range(0, elements.length);
+			if (parallel) indices = indices.parallel();
+
+			indices.forEach(i -> {
+				final var element = (T)elements[i];
+				for (int p = 0; p < this.predicates.length; p++)
+					if (this.predicates[p].test(element))
+						keys[i * words + p / 64] |= Long.MIN_VALUE >>> (p % 64);
+			});
+
+			return keys;
+		}
+
+		/** Compares the keys of two elements, in the same way as {@link #compare(Object, Object)}. */
+		static int compareKeys(long @NotNull [] keys, int words, int first, int second) {
+			for (int w = 0; w < words; w++) {
+				final int result = Long.compareUnsigned(keys[second * words + w], keys[first * words + w]);
+				if (result != 0) return result;
+			}
+			return 0;
+		}
+
+		/** Returns the indices of the given elements, in the order they would be after a stable sort. */
+		int @NotNull [] sortedOrder(@NotNull Object @NotNull [] elements, boolean parallel) {
+			final var keys = this.computeKeys(elements, parallel);
+			final var order = new int[elements.length];
+
+			if (this.predicates.length < 32) {
+				// the key and the index fit in a single long, with the key reversed so that the greatest comes first
+				final var packed = new long[elements.length];
+				for (int i = 0; i < packed.length; i++)
+					packed[i] = IntPair.pack((int)(~keys[i] >>> 33), i);
+
+				if (parallel) Arrays.parallelSort(packed);
+				else Arrays.sort(packed);
+
+				for (int i = 0; i < order.length; i++)
+					order[i] = IntPair.unpackSecond(packed[i]);
+				return order;
+			}
+
+			for (int i = 0; i < order.length; i++)
+				order[i] = i;
+			return Compiled.mergeSort(order, keys, this.keyWords(), parallel);
+		}
+
+		/**
+		 * Sorts the given indices by their keys with a bottom-up merge sort, which is stable. The runs of each pass are
+		 * merged in parallel if requested and there are enough of them.
+		 * @return The sorted indices, which may be stored in a different array.
+		 */
+		private static int @NotNull [] mergeSort(
+			int @NotNull [] order,
+			long @NotNull [] keys,
+			int words,
+			boolean parallel
+		) {
+			final int size = order.length;
+			var source = order;
+			var target = new int[size];
+
+			for (int width = 1; width < size; width <<= 1) {
+				final int runWidth = width;
+				final int[] from = source, to = target;
+
+				var runs = IntStream.range(0, (size + (runWidth << 1) - 1) / (runWidth << 1));
+				if (parallel && size / (runWidth << 1) >= 2 && size >= PARALLEL_CHUNK_SIZE) runs = runs.parallel();
+				runs.forEach(run -> Compiled.mergeRuns(from, to, keys, words, run * (runWidth << 1), runWidth));
+
+				source = to;
+				target = from;
+			}
+
+			return source;
+		}
+
+		/** Merges the two sorted runs of {@code width} indices that start at {@code start} into {@code target}. */
+		private static void mergeRuns(
+			int @NotNull [] source,
+			int @NotNull [] target,
+			long @NotNull [] keys,
+			int words,
+			int start,
+			int width
+		) {
+			final int mid = Math.min(start + width, source.length);
+			final int end = Math.min(start + (width << 1), source.length);
+			int left = start, right = mid, out = start;
+
+			// on ties, the left run goes first, so the sort is stable
+			while (left < mid && right < end)
+				target[out++] = Compiled.compareKeys(keys, words, source[right], source[left]) < 0
+					? source[right++]
+					: source[left++];
+
+			while (left < mid) target[out++] = source[left++];
+			while (right < end) target[out++] = source[right++];
+		}
+
+		/**
+		 * Returns the indices of the first {@code k} elements, in the order they would be after a stable sort.
+		 */
+		int @NotNull [] topOrder(@NotNull Object @NotNull [] elements, int k, boolean parallel) {
+			final var keys = this.computeKeys(elements, parallel);
+			final int words = this.keyWords();
+			final int size = elements.length;
+
+			// compares the keys of two elements, or their indices if the keys are the same, so the selection is stable
+			final IntBinaryOperator order = (a, b) -> {
+				final int result = Compiled.compareKeys(keys, words, a, b);
+				return result != 0 ? result : Integer.compare(a, b);
+			};
+
+			final int chunks = parallel
+				? Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, size / PARALLEL_CHUNK_SIZE)
+				: 1;
+
+			if (chunks <= 1)
+				return Compiled.selectTop(0, size, k, order);
+
+			// select from each chunk separately, and merge the results
+			return IntStream.range(0, chunks)
+				.parallel()
+				.mapToObj(c -> Compiled.selectTop(
+					(int)((long)size * c / chunks), (int)((long)size * (c + 1) / chunks), k, order
+				))
+				.reduce((a, b) -> Compiled.merge(a, b, k, order))
+				.orElseThrow();
+		}
+
+		/**
+		 * Returns the first {@code k} indices between {@code from} and {@code to}, sorted. A heap with the {@code k}
+		 * best indices found so far is kept, with the worst one at the top, so it can be replaced quickly.
+		 */
+		private static int @NotNull [] selectTop(int from, int to, int k, @NotNull IntBinaryOperator order) {
+			final var heap = new int[Math.min(k, to - from)];
+			if (heap.length == 0)
+				return heap;
+
+			int size = 0;
+			for (int i = from; i < to; i++) {
+				if (size < heap.length) {
+					heap[size] = i;
+					Compiled.siftUp(heap, size++, order);
+				} else if (order.applyAsInt(i, heap[0]) < 0) {
+					heap[0] = i;
+					Compiled.siftDown(heap, size, order);
+				}
+			}
+
+			// remove the worst index each time, placing it at the end
+			while (size > 1) {
+				final int worst = heap[0];
+				heap[0] = heap[--size];
+				Compiled.siftDown(heap, size, order);
+				heap[size] = worst;
+			}
+
+			return heap;
+		}
+
+		private static void siftUp(int @NotNull [] heap, int index, @NotNull IntBinaryOperator order) {
+			final int value = heap[index];
+			while (index > 0) {
+				final int parent = (index - 1) >>> 1;
+				if (order.applyAsInt(value, heap[parent]) <= 0) break;
+				heap[index] = heap[parent];
+				index = parent;
+			}
+			heap[index] = value;
+		}
+
+		private static void siftDown(int @NotNull [] heap, int size, @NotNull IntBinaryOperator order) {
+			final int value = heap[0];
+			int index = 0;
+
+			while (true) {
+				int child = index * 2 + 1;
+				if (child >= size) break;
+				if (child + 1 < size && order.applyAsInt(heap[child + 1], heap[child]) > 0) child++;
+				if (order.applyAsInt(value, heap[child]) >= 0) break;
+				heap[index] = heap[child];
+				index = child;
+			}
+
+			heap[index] = value;
+		}
+
+		/** Merges two sorted arrays of indices, keeping only the first {@code k}. */
+		private static int @NotNull [] merge(int @NotNull [] a, int @NotNull [] b, int k, @NotNull IntBinaryOperator order) {
+			final var result = new int[Math.min(k, a.length + b.length)];
+			int i = 0, j = 0;
+
+			for (int r = 0; r < result.length; r++) {
+				if (j == b.length || (i < a.length && order.applyAsInt(a[i], b[j]) < 0)) result[r] = a[i++];
+				else result[r] = b[j++];
+			}
+
+			return result;
+		}
+
+		@Override
+		public int compare(T first, T second) {
+			for (final Predicate<T> p : this.predicates) {
+				boolean firstTest = p.test(first);
+				boolean secondTest = p.test(second);
 
-			if (firstTest && !secondTest)
-				return -1;
-			else if (!firstTest && secondTest)
-				return 1;
+				if (firstTest && !secondTest)
+					return -1;
+				else if (!firstTest && secondTest)
+					return 1;
+			}
+			return 0;
 		}
-		return 0;
 	}
 }
\ No newline at end of file
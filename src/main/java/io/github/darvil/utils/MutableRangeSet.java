@@ -0,0 +1,259 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of non-negative integers like {@link RangeSet}, but that can be modified. Ranges added are merged with the
+ * existing ones, and ranges removed may split them.
+ * <p>
+ * Adding or removing a single range finds its position with a binary search. Operations with other sets are done in
+ * a single pass over both of them. Use {@link #toRangeSet()} to get an immutable {@link RangeSet} with the current
+ * values of this set.
+ * </p>
+ */
+public final class MutableRangeSet implements Iterable<Integer> {
+	/** The start values of the intervals, sorted. Only the first {@link #size} are used. */
+	private int @NotNull [] starts;
+	/** The end values (inclusive) of the intervals, sorted. {@link Integer#MAX_VALUE} means infinity. */
+	private int @NotNull [] ends;
+	/** The number of intervals. */
+	private int size;
+
+	/** Creates a new empty {@link MutableRangeSet}. */
+	public MutableRangeSet() {
+		this(new int[8], new int[8], 0);
+	}
+
+	MutableRangeSet(int @NotNull [] starts, int @NotNull [] ends, int size) {
+		this.starts = starts;
+		this.ends = ends;
+		this.size = size;
+	}
+
+	/**
+	 * Returns an immutable {@link RangeSet} with the current values of this set. Later changes to this set do not
+	 * affect it.
+	 * @return The immutable set.
+	 */
+	public @NotNull RangeSet toRangeSet() {
+		return RangeSet.of(this.starts, this.ends, this.size);
+	}
+
+	/**
+	 * Adds all the values of the given range to the set.
+	 * @param range The range to add.
+	 * @return This set.
+	 */
+	public @NotNull MutableRangeSet add(@NotNull Range range) {
+		final int start = range.start(), end = range.end();
+
+		// intervals that overlap with or are adjacent to the range will be merged with it
+		final int first = RangeSet.firstEndingAtOrAfter(this.ends, this.size, (long)start - 1);
+		final int last = RangeSet.lastStartingAtOrBefore(this.starts, this.size, (long)end + 1);
+
+		if (first > last) {
+			this.replace(first, first, 1);
+			this.starts[first] = start;
+			this.ends[first] = end;
+			return this;
+		}
+
+		final int newStart = Math.min(start, this.starts[first]);
+		final int newEnd = Math.max(end, this.ends[last]);
+		this.replace(first, last + 1, 1);
+		this.starts[first] = newStart;
+		this.ends[first] = newEnd;
+		return this;
+	}
+
+	/**
+	 * Adds the given value to the set.
+	 * @param value The value to add.
+	 * @return This set.
+	 */
+	public @NotNull MutableRangeSet add(int value) {
+		return this.add(Range.of(value));
+	}
+
+	/**
+	 * Removes all the values of the given range from the set.
+	 * @param range The range to remove.
+	 * @return This set.
+	 */
+	public @NotNull MutableRangeSet remove(@NotNull Range range) {
+		final int start = range.start(), end = range.end();
+
+		final int first = RangeSet.firstEndingAtOrAfter(this.ends, this.size, start);
+		final int last = RangeSet.lastStartingAtOrBefore(this.starts, this.size, end);
+		if (first > last)
+			return this;
+
+		// the parts of the first and last intervals that are outside the range are kept
+		final boolean keepHead = this.starts[first] < start;
+		final boolean keepTail = this.ends[last] > end;
+		final int headStart = this.starts[first], tailEnd = this.ends[last];
+
+		this.replace(first, last + 1, (keepHead ? 1 : 0) + (keepTail ? 1 : 0));
+
+		int index = first;
+		if (keepHead) {
+			this.starts[index] = headStart;
+			this.ends[index++] = start - 1;
+		}
+		if (keepTail) {
+			this.starts[index] = end + 1;
+			this.ends[index] = tailEnd;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Removes the given value from the set.
+	 * @param value The value to remove.
+	 * @return This set.
+	 */
+	public @NotNull MutableRangeSet remove(int value) {
+		return this.remove(Range.of(value));
+	}
+
+	/**
+	 * Adds all the values of the given set to this set.
+	 * @param other The set with the values to add.
+	 * @return This set.
+	 */
+	public @NotNull MutableRangeSet addAll(@NotNull RangeSet other) {
+		this.setIntervals(RangeSet.union(this.starts, this.ends, this.size, other));
+		return this;
+	}
+
+	/**
+	 * Removes all the values of the given set from this set.
+	 * @param other The set with the values to remove.
+	 * @return This set.
+	 */
+	public @NotNull MutableRangeSet removeAll(@NotNull RangeSet other) {
+		this.setIntervals(RangeSet.difference(this.starts, this.ends, this.size, other));
+		return this;
+	}
+
+	/**
+	 * Removes all the values of this set that are not in the given set.
+	 * @param other The set with the values to keep.
+	 * @return This set.
+	 */
+	public @NotNull MutableRangeSet retainAll(@NotNull RangeSet other) {
+		this.setIntervals(RangeSet.intersection(this.starts, this.ends, this.size, other));
+		return this;
+	}
+
+	/** Removes all the values of the set. */
+	public void clear() {
+		this.size = 0;
+	}
+
+	/**
+	 * Returns {@code true} if the given value is in the set.
+	 * @param value The value to check
+	 * @return {@code true} if the value is in the set
+	 */
+	public boolean contains(int value) {
+		return RangeSet.indexOf(this.starts, this.ends, this.size, value) != -1;
+	}
+
+	/**
+	 * Returns {@code true} if all the values of the given range are in the set.
+	 * @param range The range to check
+	 * @return {@code true} if the range is in the set
+	 */
+	public boolean encloses(@NotNull Range range) {
+		return RangeSet.encloses(this.starts, this.ends, this.size, range);
+	}
+
+	/**
+	 * Returns {@code true} if any of the values of the given range is in the set.
+	 * @param range The range to check
+	 * @return {@code true} if the range intersects with the set
+	 */
+	public boolean intersects(@NotNull Range range) {
+		return RangeSet.intersects(this.starts, this.ends, this.size, range);
+	}
+
+	/** Returns {@code true} if the set contains no values. */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/** Returns the number of disjoint ranges in the set. */
+	public int rangeCount() {
+		return this.size;
+	}
+
+	/** Returns the number of values in the set. */
+	public long valueCount() {
+		return RangeSet.valueCount(this.starts, this.ends, this.size);
+	}
+
+	/**
+	 * Returns the disjoint ranges that make up this set, sorted. If the last range ends at
+	 * {@link Integer#MAX_VALUE}, it is infinite.
+	 * @return An unmodifiable list of the ranges.
+	 */
+	public @NotNull List<@NotNull Range> ranges() {
+		return RangeSet.ranges(this.starts, this.ends, this.size);
+	}
+
+	/**
+	 * Returns an iterator over all the values in the set, in ascending order. The values are not boxed when using
+	 * {@link PrimitiveIterator.OfInt#nextInt()}. The set must not be modified while iterating.
+	 * @return The iterator
+	 */
+	@Override
+	public @NotNull PrimitiveIterator.OfInt iterator() {
+		return RangeSet.iterator(this.starts, this.ends, this.size);
+	}
+
+	/**
+	 * Performs the given action for each value in the set, in ascending order. The values are not boxed.
+	 * @param action The action to perform
+	 */
+	public void forEachInt(@NotNull IntConsumer action) {
+		RangeSet.forEachInt(this.starts, this.ends, this.size, action);
+	}
+
+	/** Returns a string representation of the set, such as <code>"[{1..3}, {5}, {7..}]"</code>. */
+	@Override
+	public String toString() {
+		return this.ranges().toString();
+	}
+
+	/** Replaces the intervals of this set with the ones of the given builder. */
+	private void setIntervals(@NotNull RangeSet.Builder builder) {
+		this.starts = builder.starts;
+		this.ends = builder.ends;
+		this.size = builder.size;
+	}
+
+	/**
+	 * Replaces the intervals between {@code from} (inclusive) and {@code to} (exclusive) with {@code count} new
+	 * intervals, which must then be set by the caller.
+	 */
+	private void replace(int from, int to, int count) {
+		final int newSize = this.size - (to - from) + count;
+
+		if (newSize > this.starts.length) {
+			final int capacity = Math.max(newSize, this.starts.length * 2);
+			this.starts = Arrays.copyOf(this.starts, capacity);
+			this.ends = Arrays.copyOf(this.ends, capacity);
+		}
+
+		System.arraycopy(this.starts, to, this.starts, from + count, this.size - to);
+		System.arraycopy(this.ends, to, this.ends, from + count, this.size - to);
+		this.size = newSize;
+	}
+}
@@ -0,0 +1,19 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A record that stores an object and an {@code int}, without boxing the {@code int}.
+ * @param first The object.
+ * @param second The {@code int} value.
+ * @param <T> The type of the object.
+ */
+public record ObjIntPair<T>(T first, int second) {
+	/**
+	 * Returns a {@link Pair} with the values of this pair, with the {@code int} boxed.
+	 * @return A new {@link Pair} with the values.
+	 */
+	public @NotNull Pair<T, Integer> toPair() {
+		return new Pair<>(this.first, this.second);
+	}
+}
@@ -0,0 +1,19 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A record that stores an object and a {@code long}, without boxing the {@code long}.
+ * @param first The object.
+ * @param second The {@code long} value.
+ * @param <T> The type of the object.
+ */
+public record ObjLongPair<T>(T first, long second) {
+	/**
+	 * Returns a {@link Pair} with the values of this pair, with the {@code long} boxed.
+	 * @return A new {@link Pair} with the values.
+	 */
+	public @NotNull Pair<T, Long> toPair() {
+		return new Pair<>(this.first, this.second);
+	}
+}
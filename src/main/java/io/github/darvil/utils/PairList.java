@@ -0,0 +1,277 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A growable list of pairs, which stores the first and second values of the pairs in two separate arrays instead of
+ * creating a {@link Pair} for each one. Scanning or sorting by one of the values only accesses a single array.
+ * <p>
+ * When {@link Pair}s are needed, {@link #asList()} returns a view of this list that creates them as they are accessed,
+ * without copying the values.
+ * </p>
+ * For pairs of {@code int}s, use {@link IntPairList}, which does not box the values.
+ * @param <A> The type of the first values.
+ * @param <B> The type of the second values.
+ */
+public final class PairList<A, B> {
+	private static final int DEFAULT_CAPACITY = 10;
+
+	private Object @NotNull [] firsts;
+	private Object @NotNull [] seconds;
+	private int size;
+
+	private PairList(int capacity) {
+		if (capacity < 0)
+			throw new IllegalArgumentException("capacity must be positive or 0");
+
+		this.firsts = new Object[capacity];
+		this.seconds = new Object[capacity];
+	}
+
+	/**
+	 * Creates a new empty {@link PairList}.
+	 * @return A new empty {@link PairList}.
+	 * @param <A> The type of the first values.
+	 * @param <B> The type of the second values.
+	 */
+	public static <A, B> @NotNull PairList<A, B> empty() {
+		return new PairList<>(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new empty {@link PairList} with room for the given number of pairs before growing.
+	 * @param capacity The initial capacity.
+	 * @return A new empty {@link PairList}.
+	 * @param <A> The type of the first values.
+	 * @param <B> The type of the second values.
+	 */
+	public static <A, B> @NotNull PairList<A, B> empty(int capacity) {
+		return new PairList<>(capacity);
+	}
+
+	/**
+	 * Adds a pair to the end of the list.
+	 * @param first The first value.
+	 * @param second The second value.
+	 */
+	public void add(A first, B second) {
+		if (this.size == this.firsts.length)
+			this.grow();
+
+		this.firsts[this.size] = first;
+		this.seconds[this.size++] = second;
+	}
+
+	/**
+	 * Adds a pair to the end of the list.
+	 * @param pair The pair to add.
+	 */
+	public void add(@NotNull Pair<? extends A, ? extends B> pair) {
+		this.add(pair.first(), pair.second());
+	}
+
+	/**
+	 * Returns the first value of the pair at the given index.
+	 * @param index The index of the pair.
+	 * @return The first value.
+	 */
+	@SuppressWarnings("unchecked")
+	public A getFirst(int index) {
+		this.checkIndex(index);
+		return (A)this.firsts[index];
+	}
+
+	/**
+	 * Returns the second value of the pair at the given index.
+	 * @param index The index of the pair.
+	 * @return The second value.
+	 */
+	@SuppressWarnings("unchecked")
+	public B getSecond(int index) {
+		this.checkIndex(index);
+		return (B)this.seconds[index];
+	}
+
+	/**
+	 * Returns the pair at the given index. A new {@link Pair} is created each time.
+	 * @param index The index of the pair.
+	 * @return The pair at the given index.
+	 */
+	public @NotNull Pair<A, B> get(int index) {
+		return new Pair<>(this.getFirst(index), this.getSecond(index));
+	}
+
+	/**
+	 * Sets the first value of the pair at the given index.
+	 * @param index The index of the pair.
+	 * @param first The new first value.
+	 */
+	public void setFirst(int index, A first) {
+		this.checkIndex(index);
+		this.firsts[index] = first;
+	}
+
+	/**
+	 * Sets the second value of the pair at the given index.
+	 * @param index The index of the pair.
+	 * @param second The new second value.
+	 */
+	public void setSecond(int index, B second) {
+		this.checkIndex(index);
+		this.seconds[index] = second;
+	}
+
+	/**
+	 * Returns the number of pairs in the list.
+	 * @return The number of pairs in the list.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/** Removes all the pairs from the list. */
+	public void clear() {
+		Arrays.fill(this.firsts, 0, this.size, null);
+		Arrays.fill(this.seconds, 0, this.size, null);
+		this.size = 0;
+	}
+
+	/**
+	 * Sorts the pairs by their first value. The sort is stable.
+	 * @param comparator The comparator of the first values.
+	 * @return The permutation applied. The pair at index {@code i} was previously at index {@code result[i]}.
+	 */
+	public int @NotNull [] sortByFirst(@NotNull Comparator<? super A> comparator) {
+		return this.sortBy(this.firsts, comparator);
+	}
+
+	/**
+	 * Sorts the pairs by their second value. The sort is stable.
+	 * @param comparator The comparator of the second values.
+	 * @return The permutation applied. The pair at index {@code i} was previously at index {@code result[i]}.
+	 */
+	public int @NotNull [] sortBySecond(@NotNull Comparator<? super B> comparator) {
+		return this.sortBy(this.seconds, comparator);
+	}
+
+	/**
+	 * Searches for a pair with the given first value, in the same way as
+	 * {@link Arrays#binarySearch(Object[], Object, Comparator)}. The list must be sorted by the first value with the
+	 * same comparator.
+	 * @param key The first value to search for.
+	 * @param comparator The comparator the list is sorted with.
+	 * @return The index of a pair with the value, or {@code -(insertion point) - 1} if there is none.
+	 */
+	@SuppressWarnings("unchecked")
+	public int binarySearchFirst(A key, @NotNull Comparator<? super A> comparator) {
+		return Arrays.binarySearch(this.firsts, 0, this.size, key, (Comparator<Object>)comparator);
+	}
+
+	/**
+	 * Searches for a pair with the given second value, in the same way as
+	 * {@link Arrays#binarySearch(Object[], Object, Comparator)}. The list must be sorted by the second value with the
+	 * same comparator.
+	 * @param key The second value to search for.
+	 * @param comparator The comparator the list is sorted with.
+	 * @return The index of a pair with the value, or {@code -(insertion point) - 1} if there is none.
+	 */
+	@SuppressWarnings("unchecked")
+	public int binarySearchSecond(B key, @NotNull Comparator<? super B> comparator) {
+		return Arrays.binarySearch(this.seconds, 0, this.size, key, (Comparator<Object>)comparator);
+	}
+
+	/**
+	 * Returns a view of this list as a list of {@link Pair}s. The values are not copied, and a {@link Pair} is only
+	 * created when an element is accessed. Changes to this list are visible in the view. The view is unmodifiable.
+	 * @return A view of this list.
+	 */
+	public @NotNull List<@NotNull Pair<A, B>> asList() {
+		return new PairView();
+	}
+
+	@Override
+	public String toString() {
+		return this.asList().toString();
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= this.size)
+			throw new IllegalArgumentException("index must be between 0 and " + (this.size - 1));
+	}
+
+	private void grow() {
+		final int capacity = Math.max(DEFAULT_CAPACITY, this.firsts.length + (this.firsts.length >> 1));
+		this.firsts = Arrays.copyOf(this.firsts, capacity);
+		this.seconds = Arrays.copyOf(this.seconds, capacity);
+	}
+
+	@SuppressWarnings("unchecked")
+	private int @NotNull [] sortBy(Object @NotNull [] column, @NotNull Comparator<?> comparator) {
+		final var order = PairList.sortedOrder(column, this.size, (Comparator<Object>)comparator);
+
+		final var newFirsts = new Object[this.firsts.length];
+		final var newSeconds = new Object[this.seconds.length];
+		for (int i = 0; i < this.size; i++) {
+			newFirsts[i] = this.firsts[order[i]];
+			newSeconds[i] = this.seconds[order[i]];
+		}
+
+		this.firsts = newFirsts;
+		this.seconds = newSeconds;
+		return order;
+	}
+
+	/**
+	 * Returns the indices of the first {@code size} values of the column, in the order the values should be in.
+	 * The indices are sorted with a bottom-up merge sort, so the values themselves are never moved.
+	 */
+	private static int @NotNull [] sortedOrder(Object @NotNull [] column, int size, @NotNull Comparator<Object> comparator) {
+		var order = new int[size];
+		var buffer = new int[size];
+		for (int i = 0; i < size; i++)
+			order[i] = i;
+
+		for (int width = 1; width < size; width <<= 1) {
+			for (int from = 0; from < size; from += width << 1) {
+				final int mid = Math.min(from + width, size);
+				final int to = Math.min(from + (width << 1), size);
+				int left = from, right = mid, out = from;
+
+				while (left < mid && right < to)
+					buffer[out++] = comparator.compare(column[order[right]], column[order[left]]) < 0
+						? order[right++]
+						: order[left++];
+
+				while (left < mid) buffer[out++] = order[left++];
+				while (right < to) buffer[out++] = order[right++];
+			}
+
+			final var tmp = order;
+			order = buffer;
+			buffer = tmp;
+		}
+
+		return order;
+	}
+
+	private final class PairView extends AbstractList<Pair<A, B>> implements RandomAccess {
+		@Override
+		public Pair<A, B> get(int index) {
+			if (index < 0 || index >= PairList.this.size)
+				throw new IndexOutOfBoundsException(index);
+
+			return PairList.this.get(index);
+		}
+
+		@Override
+		public int size() {
+			return PairList.this.size;
+		}
+	}
+}
@@ -1,19 +1,377 @@
 package io.github.darvil.utils;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Utilities for generating random numbers.
+ * <p>
+ * Methods that do not take a {@link RandomGenerator} use {@link ThreadLocalRandom}, so they can be called from many
+ * threads without contention. For reproducible results, pass a generator created with {@link #seeded(long)}.
+ * </p>
+ * <p>
+ * This class also has methods for shuffling and sampling elements. For picking indices with different weights, use
+ * {@link AliasSampler}.
+ * </p>
+ */
 public final class Random {
 	private Random() {}
 
+	/** The algorithm used by {@link #seeded(long)} and {@link #splittable(long)}. */
+	private static final RandomGeneratorFactory<RandomGenerator.SplittableGenerator> SEEDED_FACTORY =
+		RandomGeneratorFactory.of("L64X128MixRandom");
+
+	/**
+	 * Returns the generator used by the methods of this class that do not take one. This is the
+	 * {@link ThreadLocalRandom} of the current thread, so it must not be shared with other threads.
+	 */
+	public static @NotNull RandomGenerator generator() {
+		return ThreadLocalRandom.current();
+	}
+
+	/**
+	 * Creates a new generator with the given seed. Generators created with the same seed produce the same values.
+	 * The generator is not thread-safe.
+	 * @param seed The seed.
+	 * @return The new generator.
+	 */
+	public static @NotNull RandomGenerator seeded(long seed) {
+		return Random.SEEDED_FACTORY.create(seed);
+	}
+
+	/**
+	 * Creates a new splittable generator with the given seed. Call {@link RandomGenerator.SplittableGenerator#split()}
+	 * to create an independent generator for each thread or task.
+	 * @param seed The seed.
+	 * @return The new generator.
+	 */
+	public static @NotNull RandomGenerator.SplittableGenerator splittable(long seed) {
+		return Random.SEEDED_FACTORY.create(seed);
+	}
+
 	/**
 	 * Returns a random integer between min and max. First inclusive, last exclusive. {@code [min, max)}
 	 */
 	public static int randInt(int min, int max) {
-		return (int)(Math.random() * (max - min)) + min;
+		return Random.randInt(Random.generator(), min, max);
 	}
 
 	/**
 	 * Returns a random integer between 0 and max. First inclusive, last exclusive. {@code [0, max)}
 	 */
 	public static int randInt(int max) {
-		return (int)(Math.random() * max);
+		return Random.randInt(Random.generator(), 0, max);
+	}
+
+	/**
+	 * Returns a random integer between min and max, using the given generator. First inclusive, last exclusive.
+	 * {@code [min, max)}. All values have the same probability.
+	 */
+	public static int randInt(@NotNull RandomGenerator generator, int min, int max) {
+		Random.checkBounds(min, max);
+		return generator.nextInt(min, max);
+	}
+
+	/**
+	 * Returns a random integer between 0 and max, using the given generator. First inclusive, last exclusive.
+	 * {@code [0, max)}. All values have the same probability.
+	 */
+	public static int randInt(@NotNull RandomGenerator generator, int max) {
+		return Random.randInt(generator, 0, max);
+	}
+
+	/**
+	 * Returns an array with {@code count} random integers between min and max. First inclusive, last exclusive.
+	 * {@code [min, max)}
+	 */
+	public static int @NotNull [] ints(int count, int min, int max) {
+		return Random.ints(Random.generator(), count, min, max);
+	}
+
+	/**
+	 * Returns an array with {@code count} random integers between min and max, using the given generator.
+	 * First inclusive, last exclusive. {@code [min, max)}
+	 */
+	public static int @NotNull [] ints(@NotNull RandomGenerator generator, int count, int min, int max) {
+		if (count < 0)
+			throw new IllegalArgumentException("count must be positive or 0");
+
+		final var result = new int[count];
+		Random.fill(generator, result, min, max);
+		return result;
+	}
+
+	/**
+	 * Fills the given array with random integers between min and max. First inclusive, last exclusive.
+	 * {@code [min, max)}
+	 */
+	public static void fill(int @NotNull [] array, int min, int max) {
+		Random.fill(Random.generator(), array, min, max);
+	}
+
+	/**
+	 * Fills the given array with random integers between min and max, using the given generator.
+	 * First inclusive, last exclusive. {@code [min, max)}
+	 */
+	public static void fill(@NotNull RandomGenerator generator, int @NotNull [] array, int min, int max) {
+		Random.checkBounds(min, max);
+
+		for (int i = 0; i < array.length; i++)
+			array[i] = generator.nextInt(min, max);
+	}
+
+	private static void checkBounds(int min, int max) {
+		if (max <= min)
+			throw new IllegalArgumentException("max must be greater than min");
+	}
+
+	/**
+	 * Shuffles the given array in place. All permutations have the same probability.
+	 * @param array The array to shuffle.
+	 */
+	public static void shuffle(int @NotNull [] array) {
+		Random.shuffle(Random.generator(), array);
+	}
+
+	/**
+	 * Shuffles the given array in place, using the given generator. All permutations have the same probability.
+	 * @param generator The generator to use.
+	 * @param array The array to shuffle.
+	 */
+	public static void shuffle(@NotNull RandomGenerator generator, int @NotNull [] array) {
+		for (int i = array.length - 1; i > 0; i--) {
+			final int j = generator.nextInt(i + 1);
+			final int tmp = array[i];
+			array[i] = array[j];
+			array[j] = tmp;
+		}
+	}
+
+	/**
+	 * Shuffles the given array in place. All permutations have the same probability.
+	 * @param array The array to shuffle.
+	 */
+	public static <T> void shuffle(T @NotNull [] array) {
+		Random.shuffle(Random.generator(), array);
+	}
+
+	/**
+	 * Shuffles the given array in place, using the given generator. All permutations have the same probability.
+	 * @param generator The generator to use.
+	 * @param array The array to shuffle.
+	 */
+	public static <T> void shuffle(@NotNull RandomGenerator generator, T @NotNull [] array) {
+		for (int i = array.length - 1; i > 0; i--) {
+			final int j = generator.nextInt(i + 1);
+			final T tmp = array[i];
+			array[i] = array[j];
+			array[j] = tmp;
+		}
+	}
+
+	/**
+	 * Shuffles the given list in place. All permutations have the same probability.
+	 * @param list The list to shuffle.
+	 */
+	public static <T> void shuffle(@NotNull List<T> list) {
+		Random.shuffle(Random.generator(), list);
+	}
+
+	/**
+	 * Shuffles the given list in place, using the given generator. All permutations have the same probability.
+	 * Lists without random access are copied to an array first, and then written back.
+	 * @param generator The generator to use.
+	 * @param list The list to shuffle.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> void shuffle(@NotNull RandomGenerator generator, @NotNull List<T> list) {
+		if (list instanceof RandomAccess) {
+			for (int i = list.size() - 1; i > 0; i--)
+				list.set(i, list.set(generator.nextInt(i + 1), list.get(i)));
+			return;
+		}
+
+		final var array = list.toArray();
+		Random.shuffle(generator, array);
+
+		final var iterator = list.listIterator();
+		for (var element : array) {
+			iterator.next();
+			iterator.set((T)element);
+		}
+	}
+
+	/**
+	 * Returns {@code k} different random integers between 0 and n. First inclusive, last exclusive. {@code [0, n)}
+	 * All subsets have the same probability. The integers are returned in no particular order.
+	 * @param n The number of integers to pick from.
+	 * @param k The number of integers to pick.
+	 * @return The integers picked.
+	 */
+	public static int @NotNull [] sampleIndices(int n, int k) {
+		return Random.sampleIndices(Random.generator(), n, k);
+	}
+
+	/**
+	 * Returns {@code k} different random integers between 0 and n, using the given generator. First inclusive, last
+	 * exclusive. {@code [0, n)} All subsets have the same probability. The integers are returned in no particular order.
+	 * <p>
+	 * If {@code k} is much smaller than {@code n}, Floyd's algorithm is used, so the memory used only depends on
+	 * {@code k}. Otherwise, the first {@code k} steps of a shuffle of all the integers are done.
+	 * </p>
+	 * @param generator The generator to use.
+	 * @param n The number of integers to pick from.
+	 * @param k The number of integers to pick.
+	 * @return The integers picked.
+	 */
+	public static int @NotNull [] sampleIndices(@NotNull RandomGenerator generator, int n, int k) {
+		if (n < 0 || k < 0 || k > n)
+			throw new IllegalArgumentException("k must be between 0 and n");
+
+		final var result = new int[k];
+
+		if (k <= n / 4) {
+			// Floyd's algorithm. The integers picked are stored in an open addressing table, shifted by one
+			final var table = new int[Integer.highestOneBit(Math.max(k, 1)) * 4];
+			final int mask = table.length - 1;
+			int count = 0;
+
+			for (int j = n - k; j < n; j++) {
+				final int value = generator.nextInt(j + 1);
+
+				// if the value was already picked, pick j instead, which can't have been picked yet
+				if (Random.addToTable(table, mask, value)) {
+					result[count++] = value;
+				} else {
+					Random.addToTable(table, mask, j);
+					result[count++] = j;
+				}
+			}
+
+			return result;
+		}
+
+		final var values = new int[n];
+		for (int i = 0; i < n; i++)
+			values[i] = i;
+
+		for (int i = 0; i < k; i++) {
+			final int j = i + generator.nextInt(n - i);
+			result[i] = values[j];
+			values[j] = values[i];
+		}
+
+		return result;
+	}
+
+	/** Adds the value to the table. Returns {@code false} if it was already in it. */
+	private static boolean addToTable(int @NotNull [] table, int mask, int value) {
+		int index = (value * 0x9E3779B9) & mask;
+
+		while (table[index] != 0) {
+			if (table[index] == value + 1) return false;
+			index = (index + 1) & mask;
+		}
+
+		table[index] = value + 1;
+		return true;
+	}
+
+	/**
+	 * Returns {@code k} different random elements of the given list. All subsets have the same probability.
+	 * The elements are returned in no particular order.
+	 * @param list The list to pick from.
+	 * @param k The number of elements to pick.
+	 * @return A new list with the elements picked.
+	 */
+	public static <T> @NotNull List<T> sample(@NotNull List<T> list, int k) {
+		return Random.sample(Random.generator(), list, k);
+	}
+
+	/**
+	 * Returns {@code k} different random elements of the given list, using the given generator. All subsets have the
+	 * same probability. The elements are returned in no particular order.
+	 * @param generator The generator to use.
+	 * @param list The list to pick from.
+	 * @param k The number of elements to pick.
+	 * @return A new list with the elements picked.
+	 */
+	public static <T> @NotNull List<T> sample(@NotNull RandomGenerator generator, @NotNull List<T> list, int k) {
+		final var indices = Random.sampleIndices(generator, list.size(), k);
+		final var result = new ArrayList<T>(k);
+
+		for (int index : indices)
+			result.add(list.get(index));
+
+		return result;
+	}
+
+	/**
+	 * Returns {@code k} random elements of the given iterator, consuming it. All subsets have the same probability.
+	 * The size of the iterator does not need to be known. The elements are returned in no particular order.
+	 * @param iterator The elements to pick from.
+	 * @param k The number of elements to pick. If there are fewer elements, all of them are returned.
+	 * @return A new list with the elements picked.
+	 */
+	public static <T> @NotNull List<T> sample(@NotNull Iterator<? extends T> iterator, int k) {
+		return Random.sample(Random.generator(), iterator, k);
+	}
+
+	/**
+	 * Returns {@code k} random elements of the given iterator, consuming it, using the given generator. All subsets
+	 * have the same probability. The size of the iterator does not need to be known. The elements are returned in no
+	 * particular order.
+	 * <p>
+	 * Instead of generating a random number for each element, the number of elements to skip until the next one that
+	 * is picked is generated, so only {@code O(k log(n / k))} random numbers are needed. (Algorithm L)
+	 * </p>
+	 * @param generator The generator to use.
+	 * @param iterator The elements to pick from.
+	 * @param k The number of elements to pick. If there are fewer elements, all of them are returned.
+	 * @return A new list with the elements picked.
+	 */
+	public static <T> @NotNull List<T> sample(
+		@NotNull RandomGenerator generator,
+		@NotNull Iterator<? extends T> iterator,
+		int k
+	) {
+		if (k < 0)
+			throw new IllegalArgumentException("k must be positive or 0");
+
+		final var reservoir = new ArrayList<T>(k);
+		while (reservoir.size() < k && iterator.hasNext())
+			reservoir.add(iterator.next());
+
+		if (reservoir.size() < k || k == 0)
+			return reservoir;
+
+		double w = Math.exp(Math.log(Random.nextOpenDouble(generator)) / k);
+
+		while (true) {
+			long skip = (long)Math.floor(Math.log(Random.nextOpenDouble(generator)) / Math.log1p(-w));
+
+			for (; skip > 0; skip--) {
+				if (!iterator.hasNext()) return reservoir;
+				iterator.next();
+			}
+
+			if (!iterator.hasNext())
+				return reservoir;
+
+			reservoir.set(generator.nextInt(k), iterator.next());
+			w *= Math.exp(Math.log(Random.nextOpenDouble(generator)) / k);
+		}
+	}
+
+	/** Returns a random double greater than 0, up to 1. {@code (0, 1]} */
+	private static double nextOpenDouble(@NotNull RandomGenerator generator) {
+		return 1 - generator.nextDouble();
 	}
-}
\ No newline at end of file
+}
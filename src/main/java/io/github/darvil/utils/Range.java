@@ -1,8 +1,16 @@
 package io.github.darvil.utils;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 /** A range class to contain a start and end value, or a single value. Both non-negative. */
 public class Range implements Iterable<Integer> {
@@ -181,38 +189,238 @@ public class Range implements Iterable<Integer> {
 		return new Range(this.start + offset, this.isInfinite ? -1 : this.end + offset);
 	}
 
+	/**
+	 * Returns the first value of the range.
+	 * @param startInclusive Whether the start value is inclusive
+	 */
+	private long getFirst(boolean startInclusive) {
+		return (long)this.start + (startInclusive ? 0 : 1);
+	}
+
+	/**
+	 * Returns the last value of the range. If the range is infinite, the end value is {@link Integer#MAX_VALUE}.
+	 * @param endInclusive Whether the end value is inclusive
+	 */
+	private long getLast(boolean endInclusive) {
+		return (long)this.end() - (endInclusive ? 0 : 1);
+	}
+
 	/**
 	 * Returns an iterator that iterates over the range. Both the start and end values are inclusive.
+	 * <p>
+	 * The values are not boxed when using {@link PrimitiveIterator.OfInt#nextInt()}.
 	 * @return The iterator
-	 * @see #iterator(boolean, boolean)
+	 * @see #intIterator(boolean, boolean)
 	 */
 	@Override
-	public @NotNull Iterator<Integer> iterator() {
-		return this.iterator(true, true);
+	public @NotNull PrimitiveIterator.OfInt iterator() {
+		return this.intIterator(true, true);
 	}
 
 	/**
-	 * Returns an iterator that iterates over the range.
+	 * Returns an iterator that iterates over the range. If the range is infinite, the iterator stops at
+	 * {@link Integer#MAX_VALUE}.
+	 * <p>
+	 * Use {@link #intIterator(boolean, boolean)} to iterate without boxing the values.
 	 * @param startInclusive Whether the start value is inclusive
 	 * @param endInclusive Whether the end value is inclusive
 	 * @return The iterator
 	 */
 	public @NotNull Iterator<Integer> iterator(boolean startInclusive, boolean endInclusive) {
-		return new Iterator<>() {
-			private int index = Range.this.start + (startInclusive ? 0 : 1);
+		return this.intIterator(startInclusive, endInclusive);
+	}
+
+	/**
+	 * Returns an iterator that iterates over the range. If the range is infinite, the iterator stops at
+	 * {@link Integer#MAX_VALUE}.
+	 * <p>
+	 * The values are not boxed when using {@link PrimitiveIterator.OfInt#nextInt()}.
+	 * @param startInclusive Whether the start value is inclusive
+	 * @param endInclusive Whether the end value is inclusive
+	 * @return The iterator
+	 */
+	public @NotNull PrimitiveIterator.OfInt intIterator(boolean startInclusive, boolean endInclusive) {
+		final long last = this.getLast(endInclusive);
+
+		return new PrimitiveIterator.OfInt() {
+			private long index = Range.this.getFirst(startInclusive);
 
 			@Override
 			public boolean hasNext() {
-				return this.index < Range.this.end + (endInclusive ? 1 : 0);
+				return this.index <= last;
 			}
 
 			@Override
-			public Integer next() {
-				return this.index++;
+			public int nextInt() {
+				if (!this.hasNext())
+					throw new NoSuchElementException();
+
+				return (int)this.index++;
 			}
 		};
 	}
 
+	/**
+	 * Performs the given action for each value in the range, inclusive. The values are not boxed.
+	 * @param action The action to perform
+	 * @see #forEachInt(IntConsumer, boolean, boolean)
+	 */
+	public void forEachInt(@NotNull IntConsumer action) {
+		this.forEachInt(action, true, true);
+	}
+
+	/**
+	 * Performs the given action for each value in the range. The values are not boxed.
+	 * If the range is infinite, the last value is {@link Integer#MAX_VALUE}.
+	 * @param action The action to perform
+	 * @param startInclusive Whether the start value is inclusive
+	 * @param endInclusive Whether the end value is inclusive
+	 */
+	public void forEachInt(@NotNull IntConsumer action, boolean startInclusive, boolean endInclusive) {
+		final long last = this.getLast(endInclusive);
+
+		for (long i = this.getFirst(startInclusive); i <= last; i++)
+			action.accept((int)i);
+	}
+
+	/**
+	 * Returns a {@link Spliterator.OfInt} over the values in the range, inclusive.
+	 * @return The spliterator
+	 * @see #spliterator(boolean, boolean)
+	 */
+	@Override
+	public @NotNull Spliterator.OfInt spliterator() {
+		return this.spliterator(true, true);
+	}
+
+	/**
+	 * Returns a {@link Spliterator.OfInt} over the values in the range.
+	 * <p>
+	 * Finite ranges are split evenly in halves. Infinite ranges (which end at {@link Integer#MAX_VALUE}) are
+	 * split lazily, giving away chunks of increasing size from the start of the range, since they are usually
+	 * consumed by short-circuiting operations. In both cases the size is known, and the values are never stored
+	 * anywhere.
+	 * </p>
+	 * @param startInclusive Whether the start value is inclusive
+	 * @param endInclusive Whether the end value is inclusive
+	 * @return The spliterator
+	 */
+	public @NotNull Spliterator.OfInt spliterator(boolean startInclusive, boolean endInclusive) {
+		return new RangeSpliterator(this.getFirst(startInclusive), this.getLast(endInclusive), this.isInfinite);
+	}
+
+	/**
+	 * Returns a sequential {@link IntStream} of the values in the range, inclusive.
+	 * @return The stream
+	 * @see #stream(boolean, boolean)
+	 */
+	public @NotNull IntStream stream() {
+		return this.stream(true, true);
+	}
+
+	/**
+	 * Returns a sequential {@link IntStream} of the values in the range.
+	 * If the range is infinite, the last value is {@link Integer#MAX_VALUE}.
+	 * @param startInclusive Whether the start value is inclusive
+	 * @param endInclusive Whether the end value is inclusive
+	 * @return The stream
+	 */
+	public @NotNull IntStream stream(boolean startInclusive, boolean endInclusive) {
+		return StreamSupport.intStream(this.spliterator(startInclusive, endInclusive), false);
+	}
+
+	/**
+	 * Returns a parallel {@link IntStream} of the values in the range, inclusive.
+	 * @return The stream
+	 * @see #parallelStream(boolean, boolean)
+	 */
+	public @NotNull IntStream parallelStream() {
+		return this.parallelStream(true, true);
+	}
+
+	/**
+	 * Returns a parallel {@link IntStream} of the values in the range.
+	 * If the range is infinite, the last value is {@link Integer#MAX_VALUE}.
+	 * @param startInclusive Whether the start value is inclusive
+	 * @param endInclusive Whether the end value is inclusive
+	 * @return The stream
+	 * @see #spliterator(boolean, boolean)
+	 */
+	public @NotNull IntStream parallelStream(boolean startInclusive, boolean endInclusive) {
+		return StreamSupport.intStream(this.spliterator(startInclusive, endInclusive), true);
+	}
+
+	/** A spliterator over the values between two bounds, both inclusive. */
+	private static final class RangeSpliterator implements Spliterator.OfInt {
+		/** The size of the first chunk given away when splitting an unbounded spliterator. */
+		private static final int INITIAL_BATCH_SIZE = 1 << 10;
+		/** The maximum size of the chunks given away when splitting an unbounded spliterator. */
+		private static final int MAX_BATCH_SIZE = 1 << 25;
+
+		private long from;
+		private final long last;
+		/** Whether the spliterator comes from an infinite range, and should be split in chunks. */
+		private final boolean unbounded;
+		private int batchSize = INITIAL_BATCH_SIZE;
+
+		private RangeSpliterator(long from, long last, boolean unbounded) {
+			this.from = from;
+			this.last = last;
+			this.unbounded = unbounded;
+		}
+
+		@Override
+		public boolean tryAdvance(@NotNull IntConsumer action) {
+			if (this.from > this.last)
+				return false;
+
+			action.accept((int)this.from++);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(@NotNull IntConsumer action) {
+			final long last = this.last;
+			long i = this.from;
+			this.from = last + 1; // mark as consumed before running the action
+
+			for (; i <= last; i++)
+				action.accept((int)i);
+		}
+
+		@Override
+		public @Nullable Spliterator.OfInt trySplit() {
+			final long size = this.last - this.from + 1;
+			if (size < 2)
+				return null;
+
+			long splitSize = size / 2;
+			if (this.unbounded) {
+				splitSize = Math.min(this.batchSize, splitSize);
+				this.batchSize = Math.min(this.batchSize * 2, MAX_BATCH_SIZE);
+			}
+
+			final var prefix = new RangeSpliterator(this.from, this.from + splitSize - 1, false);
+			this.from += splitSize;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return Math.max(0, this.last - this.from + 1);
+		}
+
+		@Override
+		public int characteristics() {
+			// even infinite ranges end at Integer.MAX_VALUE, so the size is always known
+			return ORDERED | SIZED | SUBSIZED | DISTINCT | SORTED | IMMUTABLE | NONNULL;
+		}
+
+		@Override
+		public @Nullable Comparator<? super Integer> getComparator() {
+			return null; // natural order
+		}
+	}
 
 	/**
 	 * Returns an array of all the values in the range, inclusive.
@@ -244,11 +452,11 @@ public class Range implements Iterable<Integer> {
 		if (this.isSimple())
 			return new int[] { this.start };
 
-		var arr = new int[this.end - this.start - (startInclusive ? 0 : 1) - (endInclusive ? 0 : 1) + 1];
-		var iterator = this.iterator(startInclusive, endInclusive);
+		final int first = (int)this.getFirst(startInclusive);
+		final var arr = new int[(int)(this.getLast(endInclusive) - first + 1)];
 
 		for (int i = 0; i < arr.length; i++)
-			arr[i] = iterator.next();
+			arr[i] = first + i;
 
 		return arr;
 	}
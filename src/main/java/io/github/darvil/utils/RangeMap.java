@@ -0,0 +1,292 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable map from {@link Range}s to values, which can be queried for all the values whose ranges contain a
+ * value, or overlap with another range. Ranges may overlap with each other, and may be infinite.
+ * <p>
+ * The ranges are stored in a centered interval tree, so both queries take {@code O(log n + k)} time, where
+ * {@code k} is the number of results. The tree is built once by a {@link Builder}, and all of its nodes are laid out
+ * in flat primitive arrays.
+ * </p>
+ * <pre>{@code
+ * var map = RangeMap.<String>builder()
+ *     .put(Range.from(0).to(10), "small")
+ *     .put(Range.from(5).toInfinity(), "big")
+ *     .build();
+ *
+ * map.valuesContaining(7); // ["small", "big"]
+ * }</pre>
+ * @param <V> The type of the values.
+ */
+public final class RangeMap<V> {
+	private final @NotNull Range @NotNull [] keys;
+	private final @NotNull Object @NotNull [] values;
+	private final int[] starts, ends;
+
+	/* The nodes of the tree. Each node stores the center value, the indices of its children (or -1), and the
+	 * position of its entries in entriesByStart and entriesByEnd. */
+	private final int[] nodeCenters, nodeLefts, nodeRights, nodeOffsets, nodeCounts;
+	/** The indices of the entries of each node, sorted by their start values (ascending). */
+	private final int[] entriesByStart;
+	/** The indices of the entries of each node, sorted by their end values (descending). */
+	private final int[] entriesByEnd;
+	private final int root;
+
+	private RangeMap(@NotNull List<Range> keys, @NotNull List<V> values) {
+		final int size = keys.size();
+		this.keys = keys.toArray(Range[]::new);
+		this.values = values.toArray();
+		this.starts = new int[size];
+		this.ends = new int[size];
+
+		for (int i = 0; i < size; i++) {
+			this.starts[i] = this.keys[i].start();
+			this.ends[i] = this.keys[i].end();
+		}
+
+		final var indices = new int[size];
+		Arrays.setAll(indices, i -> i);
+
+		final var tree = new TreeBuilder(this.starts, this.ends);
+		this.root = tree.buildNode(indices);
+		this.nodeCenters = tree.nodeCenters;
+		this.nodeLefts = tree.nodeLefts;
+		this.nodeRights = tree.nodeRights;
+		this.nodeOffsets = tree.nodeOffsets;
+		this.nodeCounts = tree.nodeCounts;
+		this.entriesByStart = tree.entriesByStart;
+		this.entriesByEnd = tree.entriesByEnd;
+	}
+
+	/** Creates a new {@link Builder} for a {@link RangeMap}. */
+	public static <V> @NotNull Builder<V> builder() {
+		return new Builder<>();
+	}
+
+	/**
+	 * Builds a {@link RangeMap}.
+	 * @param <V> The type of the values.
+	 */
+	public static final class Builder<V> {
+		private final ArrayList<Range> keys = new ArrayList<>();
+		private final ArrayList<V> values = new ArrayList<>();
+
+		private Builder() {}
+
+		/**
+		 * Adds the given range with the given value. The same range may be added multiple times.
+		 * @param range The range.
+		 * @param value The value.
+		 * @return This builder.
+		 */
+		public @NotNull Builder<V> put(@NotNull Range range, @NotNull V value) {
+			this.keys.add(range);
+			this.values.add(value);
+			return this;
+		}
+
+		/** Builds the {@link RangeMap} with all the ranges added. */
+		public @NotNull RangeMap<V> build() {
+			return new RangeMap<>(this.keys, this.values);
+		}
+	}
+
+	/** Lays out the nodes of the tree in flat arrays. Only used while building a {@link RangeMap}. */
+	private static final class TreeBuilder {
+		private final int[] starts, ends;
+		private final int[] nodeCenters, nodeLefts, nodeRights, nodeOffsets, nodeCounts;
+		private final int[] entriesByStart, entriesByEnd;
+		/** The number of nodes and entries already placed. */
+		private int nodeCount, entryCount;
+
+		private TreeBuilder(int @NotNull [] starts, int @NotNull [] ends) {
+			final int size = starts.length;
+			this.starts = starts;
+			this.ends = ends;
+			this.nodeCenters = new int[size];
+			this.nodeLefts = new int[size];
+			this.nodeRights = new int[size];
+			this.nodeOffsets = new int[size];
+			this.nodeCounts = new int[size];
+			this.entriesByStart = new int[size];
+			this.entriesByEnd = new int[size];
+		}
+
+		/**
+		 * Builds the node for the given entries, and its children. The center of the node is the median of the start
+		 * and end values of the entries, so at least one entry always contains it.
+		 * @return The index of the node, or -1 if there are no entries.
+		 */
+		int buildNode(int @NotNull [] entries) {
+			if (entries.length == 0)
+				return -1;
+
+			final var bounds = new int[entries.length * 2];
+			for (int i = 0; i < entries.length; i++) {
+				bounds[i * 2] = this.starts[entries[i]];
+				bounds[i * 2 + 1] = this.ends[entries[i]];
+			}
+			Arrays.sort(bounds);
+			final int center = bounds[entries.length];
+
+			// split the entries into the ones at the left of the center, the ones at the right,
+			// and the ones containing it
+			final var left = new int[entries.length];
+			final var right = new int[entries.length];
+			final var middle = new int[entries.length];
+			int leftCount = 0, rightCount = 0, middleCount = 0;
+
+			for (int entry : entries) {
+				if (this.ends[entry] < center) left[leftCount++] = entry;
+				else if (this.starts[entry] > center) right[rightCount++] = entry;
+				else middle[middleCount++] = entry;
+			}
+
+			final int node = this.nodeCount++;
+			this.nodeCenters[node] = center;
+			this.nodeOffsets[node] = this.entryCount;
+			this.nodeCounts[node] = middleCount;
+
+			this.sortEntries(middle, middleCount, this.starts, false, this.entriesByStart);
+			this.sortEntries(middle, middleCount, this.ends, true, this.entriesByEnd);
+			this.entryCount += middleCount;
+
+			this.nodeLefts[node] = this.buildNode(Arrays.copyOf(left, leftCount));
+			this.nodeRights[node] = this.buildNode(Arrays.copyOf(right, rightCount));
+			return node;
+		}
+
+		/**
+		 * Sorts the given entries by the given values, and stores them in {@code target} at the current entry count.
+		 */
+		private void sortEntries(
+			int @NotNull [] entries,
+			int count,
+			int @NotNull [] keys,
+			boolean descending,
+			int @NotNull [] target
+		) {
+			// the keys are never negative, so the key and the entry can be packed in a single long and sorted together
+			final var packed = new long[count];
+			for (int i = 0; i < count; i++) {
+				final int key = descending ? Integer.MAX_VALUE - keys[entries[i]] : keys[entries[i]];
+				packed[i] = IntPair.pack(key, entries[i]);
+			}
+			Arrays.sort(packed);
+
+			for (int i = 0; i < count; i++)
+				target[this.entryCount + i] = IntPair.unpackSecond(packed[i]);
+		}
+	}
+
+	/**
+	 * Calls the given action with all the entries whose range contains the given value, in no particular order.
+	 * @param value The value.
+	 * @param action The action to call with each range and its value.
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEachContaining(int value, @NotNull BiConsumer<? super Range, ? super V> action) {
+		int node = this.root;
+
+		while (node != -1) {
+			final int center = this.nodeCenters[node];
+			final int offset = this.nodeOffsets[node];
+			final int end = offset + this.nodeCounts[node];
+
+			if (value < center) {
+				// all the entries of this node end after the value, so only check the start
+				for (int i = offset; i < end && this.starts[this.entriesByStart[i]] <= value; i++)
+					action.accept(this.keys[this.entriesByStart[i]], (V)this.values[this.entriesByStart[i]]);
+				node = this.nodeLefts[node];
+			} else if (value > center) {
+				// all the entries of this node start before the value, so only check the end
+				for (int i = offset; i < end && this.ends[this.entriesByEnd[i]] >= value; i++)
+					action.accept(this.keys[this.entriesByEnd[i]], (V)this.values[this.entriesByEnd[i]]);
+				node = this.nodeRights[node];
+			} else {
+				for (int i = offset; i < end; i++)
+					action.accept(this.keys[this.entriesByStart[i]], (V)this.values[this.entriesByStart[i]]);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Calls the given action with all the entries whose range overlaps with the given range, in no particular order.
+	 * @param range The range.
+	 * @param action The action to call with each range and its value.
+	 */
+	public void forEachOverlapping(@NotNull Range range, @NotNull BiConsumer<? super Range, ? super V> action) {
+		this.forEachOverlapping(this.root, range.start(), range.end(), action);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void forEachOverlapping(int node, int from, int to, @NotNull BiConsumer<? super Range, ? super V> action) {
+		while (node != -1) {
+			final int center = this.nodeCenters[node];
+			final int offset = this.nodeOffsets[node];
+			final int end = offset + this.nodeCounts[node];
+
+			if (to < center) {
+				for (int i = offset; i < end && this.starts[this.entriesByStart[i]] <= to; i++)
+					action.accept(this.keys[this.entriesByStart[i]], (V)this.values[this.entriesByStart[i]]);
+				node = this.nodeLefts[node];
+			} else if (from > center) {
+				for (int i = offset; i < end && this.ends[this.entriesByEnd[i]] >= from; i++)
+					action.accept(this.keys[this.entriesByEnd[i]], (V)this.values[this.entriesByEnd[i]]);
+				node = this.nodeRights[node];
+			} else {
+				// the center is inside the range, so all the entries of this node overlap with it
+				for (int i = offset; i < end; i++)
+					action.accept(this.keys[this.entriesByStart[i]], (V)this.values[this.entriesByStart[i]]);
+				this.forEachOverlapping(this.nodeLefts[node], from, to, action);
+				node = this.nodeRights[node];
+			}
+		}
+	}
+
+	/**
+	 * Returns all the values whose range contains the given value, in no particular order.
+	 * @param value The value.
+	 * @return The values found.
+	 */
+	public @NotNull List<V> valuesContaining(int value) {
+		final var result = new ArrayList<V>();
+		this.forEachContaining(value, (k, v) -> result.add(v));
+		return result;
+	}
+
+	/**
+	 * Returns all the entries whose range contains the given value, in no particular order.
+	 * @param value The value.
+	 * @return The ranges found, with their values.
+	 */
+	public @NotNull List<@NotNull Pair<Range, V>> entriesContaining(int value) {
+		final var result = new ArrayList<Pair<Range, V>>();
+		this.forEachContaining(value, (k, v) -> result.add(new Pair<>(k, v)));
+		return result;
+	}
+
+	/**
+	 * Returns all the entries whose range overlaps with the given range, in no particular order.
+	 * @param range The range.
+	 * @return The ranges found, with their values.
+	 */
+	public @NotNull List<@NotNull Pair<Range, V>> entriesOverlapping(@NotNull Range range) {
+		final var result = new ArrayList<Pair<Range, V>>();
+		this.forEachOverlapping(range, (k, v) -> result.add(new Pair<>(k, v)));
+		return result;
+	}
+
+	/** Returns the number of entries in the map. */
+	public int size() {
+		return this.keys.length;
+	}
+}
@@ -0,0 +1,412 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable set of non-negative integers, stored as a sorted list of disjoint intervals. Overlapping and adjacent
+ * ranges are merged together, so {@code {1..3}} and {@code {4..6}} are stored as {@code {1..6}}.
+ * <p>
+ * The start and end values of the intervals are stored in two primitive arrays, so checking if a value is in the
+ * set is a binary search, and the memory used only depends on the number of intervals.
+ * </p>
+ * <p>
+ * Use {@link MutableRangeSet} to build a set by adding and removing ranges, and {@link MutableRangeSet#toRangeSet()}
+ * to get a {@link RangeSet} with its current values.
+ * </p>
+ * Just like {@link Range}, an infinite interval ends at {@link Integer#MAX_VALUE}.
+ */
+public final class RangeSet implements Iterable<Integer> {
+	private static final RangeSet EMPTY = new RangeSet(new int[0], new int[0]);
+
+	/** The start values of the intervals, sorted. */
+	private final int @NotNull [] starts;
+	/** The end values (inclusive) of the intervals, sorted. {@link Integer#MAX_VALUE} means infinity. */
+	private final int @NotNull [] ends;
+
+	private RangeSet(int @NotNull [] starts, int @NotNull [] ends) {
+		this.starts = starts;
+		this.ends = ends;
+	}
+
+	/** Returns an empty {@link RangeSet}. */
+	public static @NotNull RangeSet empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Creates a new {@link RangeSet} that contains all the values of the given ranges.
+	 * @param ranges The ranges to add.
+	 * @return The new set.
+	 */
+	public static @NotNull RangeSet of(@NotNull Range @NotNull ... ranges) {
+		return RangeSet.of(Arrays.asList(ranges));
+	}
+
+	/**
+	 * Creates a new {@link RangeSet} that contains all the values of the given ranges.
+	 * @param ranges The ranges to add.
+	 * @return The new set.
+	 */
+	public static @NotNull RangeSet of(@NotNull Iterable<@NotNull Range> ranges) {
+		final var sorted = new ArrayList<Range>();
+		ranges.forEach(sorted::add);
+		sorted.sort((a, b) -> Integer.compare(a.start(), b.start()));
+
+		final var builder = new Builder(sorted.size());
+		for (var range : sorted)
+			builder.append(range.start(), range.end());
+
+		return builder.build();
+	}
+
+	/** Returns a new {@link MutableRangeSet} with the same values as this set. */
+	public @NotNull MutableRangeSet toMutable() {
+		return new MutableRangeSet(this.starts.clone(), this.ends.clone(), this.starts.length);
+	}
+
+	/**
+	 * Returns {@code true} if the given value is in the set.
+	 * @param value The value to check
+	 * @return {@code true} if the value is in the set
+	 */
+	public boolean contains(int value) {
+		return RangeSet.indexOf(this.starts, this.ends, this.starts.length, value) != -1;
+	}
+
+	/**
+	 * Returns {@code true} if all the values of the given range are in the set.
+	 * @param range The range to check
+	 * @return {@code true} if the range is in the set
+	 */
+	public boolean encloses(@NotNull Range range) {
+		return RangeSet.encloses(this.starts, this.ends, this.starts.length, range);
+	}
+
+	/**
+	 * Returns {@code true} if any of the values of the given range is in the set.
+	 * @param range The range to check
+	 * @return {@code true} if the range intersects with the set
+	 */
+	public boolean intersects(@NotNull Range range) {
+		return RangeSet.intersects(this.starts, this.ends, this.starts.length, range);
+	}
+
+	/** Returns {@code true} if the set contains no values. */
+	public boolean isEmpty() {
+		return this.starts.length == 0;
+	}
+
+	/** Returns the number of disjoint ranges in the set. */
+	public int rangeCount() {
+		return this.starts.length;
+	}
+
+	/** Returns the number of values in the set. */
+	public long valueCount() {
+		return RangeSet.valueCount(this.starts, this.ends, this.starts.length);
+	}
+
+	/**
+	 * Returns the disjoint ranges that make up this set, sorted. If the last range ends at
+	 * {@link Integer#MAX_VALUE}, it is infinite.
+	 * @return An unmodifiable list of the ranges.
+	 */
+	public @NotNull List<@NotNull Range> ranges() {
+		return RangeSet.ranges(this.starts, this.ends, this.starts.length);
+	}
+
+	/**
+	 * Returns a new set with the values that are in this set, in the other set, or in both.
+	 * @param other The other set.
+	 * @return The union of both sets.
+	 */
+	public @NotNull RangeSet union(@NotNull RangeSet other) {
+		return RangeSet.union(this.starts, this.ends, this.starts.length, other).build();
+	}
+
+	/**
+	 * Returns a new set with the values that are in both this set and the other set.
+	 * @param other The other set.
+	 * @return The intersection of both sets.
+	 */
+	public @NotNull RangeSet intersection(@NotNull RangeSet other) {
+		return RangeSet.intersection(this.starts, this.ends, this.starts.length, other).build();
+	}
+
+	/**
+	 * Returns a new set with the values that are in this set, but not in the other set.
+	 * @param other The other set.
+	 * @return The difference of both sets.
+	 */
+	public @NotNull RangeSet difference(@NotNull RangeSet other) {
+		return RangeSet.difference(this.starts, this.ends, this.starts.length, other).build();
+	}
+
+	/**
+	 * Returns an iterator over all the values in the set, in ascending order. The values are not boxed when using
+	 * {@link PrimitiveIterator.OfInt#nextInt()}.
+	 * @return The iterator
+	 */
+	@Override
+	public @NotNull PrimitiveIterator.OfInt iterator() {
+		return RangeSet.iterator(this.starts, this.ends, this.starts.length);
+	}
+
+	/**
+	 * Performs the given action for each value in the set, in ascending order. The values are not boxed.
+	 * @param action The action to perform
+	 */
+	public void forEachInt(@NotNull IntConsumer action) {
+		RangeSet.forEachInt(this.starts, this.ends, this.starts.length, action);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof RangeSet other)) return false;
+
+		return Arrays.equals(this.starts, other.starts) && Arrays.equals(this.ends, other.ends);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < this.starts.length; i++)
+			hash = 31 * (31 * hash + this.starts[i]) + this.ends[i];
+		return hash;
+	}
+
+	/** Returns a string representation of the set, such as <code>"[{1..3}, {5}, {7..}]"</code>. */
+	@Override
+	public String toString() {
+		return this.ranges().toString();
+	}
+
+	/* The algorithms below work on the first `size` intervals of the given arrays, so they are shared with
+	 * MutableRangeSet, whose arrays may have room for more intervals. */
+
+	/** Returns the index of the interval that contains the given value, or -1 if there is none. */
+	static int indexOf(int @NotNull [] starts, int @NotNull [] ends, int size, int value) {
+		// find the last interval that starts at or before the value
+		final int index = Arrays.binarySearch(starts, 0, size, value);
+		if (index >= 0)
+			return index;
+
+		final int before = -index - 2;
+		return before >= 0 && ends[before] >= value ? before : -1;
+	}
+
+	static boolean encloses(int @NotNull [] starts, int @NotNull [] ends, int size, @NotNull Range range) {
+		final int index = RangeSet.indexOf(starts, ends, size, range.start());
+		return index != -1 && ends[index] >= range.end();
+	}
+
+	static boolean intersects(int @NotNull [] starts, int @NotNull [] ends, int size, @NotNull Range range) {
+		final int index = RangeSet.firstEndingAtOrAfter(ends, size, range.start());
+		return index < size && starts[index] <= range.end();
+	}
+
+	/** Returns the index of the first interval that ends at or after the given value. */
+	static int firstEndingAtOrAfter(int @NotNull [] ends, int size, long value) {
+		int low = 0, high = size;
+
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (ends[mid] < value) low = mid + 1;
+			else high = mid;
+		}
+
+		return low;
+	}
+
+	/** Returns the index of the last interval that starts at or before the given value, or -1 if there is none. */
+	static int lastStartingAtOrBefore(int @NotNull [] starts, int size, long value) {
+		int low = 0, high = size;
+
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (starts[mid] <= value) low = mid + 1;
+			else high = mid;
+		}
+
+		return low - 1;
+	}
+
+	static long valueCount(int @NotNull [] starts, int @NotNull [] ends, int size) {
+		long count = 0;
+		for (int i = 0; i < size; i++)
+			count += (long)ends[i] - starts[i] + 1;
+		return count;
+	}
+
+	static @NotNull List<@NotNull Range> ranges(int @NotNull [] starts, int @NotNull [] ends, int size) {
+		final var ranges = new ArrayList<Range>(size);
+
+		for (int i = 0; i < size; i++) {
+			final var builder = Range.from(starts[i]);
+			ranges.add(ends[i] == Integer.MAX_VALUE ? builder.toInfinity() : builder.to(ends[i]));
+		}
+
+		return Collections.unmodifiableList(ranges);
+	}
+
+	static @NotNull Builder union(int @NotNull [] starts, int @NotNull [] ends, int size, @NotNull RangeSet other) {
+		final var builder = new Builder(size + other.starts.length);
+		int i = 0, j = 0;
+
+		// merge both lists by their start values
+		while (i < size || j < other.starts.length) {
+			if (j == other.starts.length || (i < size && starts[i] <= other.starts[j])) {
+				builder.append(starts[i], ends[i]);
+				i++;
+			} else {
+				builder.append(other.starts[j], other.ends[j]);
+				j++;
+			}
+		}
+
+		return builder;
+	}
+
+	static @NotNull Builder intersection(
+		int @NotNull [] starts,
+		int @NotNull [] ends,
+		int size,
+		@NotNull RangeSet other
+	) {
+		final var builder = new Builder(Math.min(size, other.starts.length));
+		int i = 0, j = 0;
+
+		while (i < size && j < other.starts.length) {
+			final int start = Math.max(starts[i], other.starts[j]);
+			final int end = Math.min(ends[i], other.ends[j]);
+			if (start <= end)
+				builder.append(start, end);
+
+			// move past the interval that ends first, the other one may still intersect with the next ones
+			if (ends[i] < other.ends[j]) i++;
+			else j++;
+		}
+
+		return builder;
+	}
+
+	static @NotNull Builder difference(
+		int @NotNull [] starts,
+		int @NotNull [] ends,
+		int size,
+		@NotNull RangeSet other
+	) {
+		final var builder = new Builder(size + other.starts.length);
+		final var otherStarts = other.starts;
+		final var otherEnds = other.ends;
+		int j = 0;
+
+		for (int i = 0; i < size; i++) {
+			long current = starts[i];
+			final int end = ends[i];
+
+			// skip the intervals that end before this one
+			while (j < otherStarts.length && otherEnds[j] < current) j++;
+
+			// cut out every interval of the other set that overlaps with this one
+			for (; j < otherStarts.length && otherStarts[j] <= end; j++) {
+				if (otherStarts[j] > current)
+					builder.append((int)current, otherStarts[j] - 1);
+
+				current = (long)otherEnds[j] + 1;
+				if (otherEnds[j] > end) break; // this interval may also overlap with the next one of this set
+			}
+
+			if (current <= end)
+				builder.append((int)current, end);
+		}
+
+		return builder;
+	}
+
+	static @NotNull PrimitiveIterator.OfInt iterator(int @NotNull [] starts, int @NotNull [] ends, int size) {
+		return new PrimitiveIterator.OfInt() {
+			private int interval = 0;
+			private long value = size == 0 ? 0 : starts[0];
+
+			@Override
+			public boolean hasNext() {
+				return this.interval < size;
+			}
+
+			@Override
+			public int nextInt() {
+				if (!this.hasNext())
+					throw new NoSuchElementException();
+
+				final int result = (int)this.value++;
+
+				// move to the next interval if this one is done
+				if (this.value > ends[this.interval] && ++this.interval < size)
+					this.value = starts[this.interval];
+
+				return result;
+			}
+		};
+	}
+
+	static void forEachInt(int @NotNull [] starts, int @NotNull [] ends, int size, @NotNull IntConsumer action) {
+		for (int i = 0; i < size; i++) {
+			final int end = ends[i];
+			for (long value = starts[i]; value <= end; value++)
+				action.accept((int)value);
+		}
+	}
+
+	/** Builds the arrays of a set from intervals appended in order of their start values. */
+	static final class Builder {
+		int[] starts, ends;
+		int size;
+
+		Builder(int capacity) {
+			this.starts = new int[Math.max(capacity, 1)];
+			this.ends = new int[this.starts.length];
+		}
+
+		/**
+		 * Adds the given interval. It must not start before the last one added. If it overlaps with or is adjacent to
+		 * the last one, both are merged.
+		 */
+		void append(int start, int end) {
+			if (this.size > 0 && start <= (long)this.ends[this.size - 1] + 1) {
+				this.ends[this.size - 1] = Math.max(this.ends[this.size - 1], end);
+				return;
+			}
+
+			if (this.size == this.starts.length) {
+				this.starts = Arrays.copyOf(this.starts, this.size * 2);
+				this.ends = Arrays.copyOf(this.ends, this.size * 2);
+			}
+
+			this.starts[this.size] = start;
+			this.ends[this.size] = end;
+			this.size++;
+		}
+
+		@NotNull RangeSet build() {
+			return RangeSet.of(this.starts, this.ends, this.size);
+		}
+	}
+
+	/** Returns a set with a copy of the first {@code size} intervals of the given arrays. */
+	static @NotNull RangeSet of(int @NotNull [] starts, int @NotNull [] ends, int size) {
+		if (size == 0)
+			return EMPTY;
+
+		return new RangeSet(Arrays.copyOf(starts, size), Arrays.copyOf(ends, size));
+	}
+}
@@ -0,0 +1,204 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+
+/**
+ * Splits text by a separator, ignoring the spaces around it. A splitter is meant to be created once per separator
+ * and reused, since no regular expression is compiled when splitting.
+ * <p>
+ * Splitting {@code "a , b,c"} by {@code ','} results in {@code "a"}, {@code "b"} and {@code "c"}.
+ * </p>
+ * @see UtlString#split(String, String, int)
+ */
+public final class Splitter {
+	private final @NotNull String separator;
+	/**
+	 * Pattern used when the separator is empty or starts or ends with a space, since the spaces around it would
+	 * be ambiguous. {@code null} for every other separator.
+	 */
+	private final @Nullable Pattern pattern;
+
+	private Splitter(@NotNull String separator) {
+		this.separator = separator;
+		this.pattern = separator.isEmpty() || separator.charAt(0) == ' ' || separator.charAt(separator.length() - 1) == ' '
+			? Pattern.compile(" *" + Pattern.quote(separator) + " *")
+			: null;
+	}
+
+	/**
+	 * Creates a new {@link Splitter} that splits by the given character.
+	 * @param separator The separator.
+	 * @return A new {@link Splitter}.
+	 */
+	public static @NotNull Splitter on(char separator) {
+		return new Splitter(String.valueOf(separator));
+	}
+
+	/**
+	 * Creates a new {@link Splitter} that splits by the given string.
+	 * @param separator The separator.
+	 * @return A new {@link Splitter}.
+	 */
+	public static @NotNull Splitter on(@NotNull String separator) {
+		return new Splitter(separator);
+	}
+
+	/**
+	 * A callback that receives each token found. The token is the text between {@code start} (inclusive)
+	 * and {@code end} (exclusive) of {@code source}.
+	 */
+	@FunctionalInterface
+	public interface TokenConsumer {
+		void accept(@NotNull CharSequence source, int start, int end);
+	}
+
+	/**
+	 * Splits the given text. Trailing empty strings are kept. (Same as {@link String#split(String, int)} with a
+	 * limit of -1)
+	 * @param str The text to split.
+	 * @return The tokens found.
+	 */
+	public @NotNull String @NotNull [] split(@NotNull CharSequence str) {
+		return this.split(str, -1);
+	}
+
+	/**
+	 * Splits the given text. The {@code max} parameter works in the same way as the limit of
+	 * {@link String#split(String, int)}.
+	 * @param str The text to split.
+	 * @param max The maximum amount of tokens. If zero, trailing empty strings are discarded. If negative,
+	 * 	there is no limit.
+	 * @return The tokens found.
+	 */
+	public @NotNull String @NotNull [] split(@NotNull CharSequence str, int max) {
+		if (this.pattern != null)
+			return this.pattern.split(str, max);
+
+		final var tokens = new ArrayList<String>();
+		final int length = str.length();
+		int from = 0;
+
+		for (int index; (max <= 0 || tokens.size() < max - 1) && (index = this.indexOf(str, from)) != -1; ) {
+			tokens.add(str.subSequence(from, this.trimEnd(str, from, index)).toString());
+			from = this.skipSpaces(str, index + this.separator.length());
+		}
+
+		// no separator found, the whole text is the only token
+		if (tokens.isEmpty())
+			return new String[] { str.toString() };
+
+		tokens.add(str.subSequence(from, length).toString());
+
+		int size = tokens.size();
+		if (max == 0)
+			while (size > 0 && tokens.get(size - 1).isEmpty()) size--;
+
+		return tokens.subList(0, size).toArray(String[]::new);
+	}
+
+	/**
+	 * Calls the given consumer with each token found in the text, in order. Trailing empty tokens are included.
+	 * No substrings are created.
+	 * @param str The text to split.
+	 * @param consumer The consumer to call with each token.
+	 */
+	public void forEach(@NotNull CharSequence str, @NotNull TokenConsumer consumer) {
+		if (this.pattern != null) {
+			for (var token : this.pattern.split(str, -1))
+				consumer.accept(token, 0, token.length());
+			return;
+		}
+
+		int from = 0;
+		for (int index; (index = this.indexOf(str, from)) != -1; ) {
+			consumer.accept(str, from, this.trimEnd(str, from, index));
+			from = this.skipSpaces(str, index + this.separator.length());
+		}
+
+		consumer.accept(str, from, str.length());
+	}
+
+	/**
+	 * Returns an iterator over the tokens found in the text. Tokens are found lazily while iterating.
+	 * Trailing empty tokens are included.
+	 * @param str The text to split.
+	 * @return An iterator over the tokens.
+	 */
+	public @NotNull Iterator<@NotNull CharSequence> iterator(@NotNull CharSequence str) {
+		if (this.pattern != null)
+			return Arrays.<CharSequence>asList(this.pattern.split(str, -1)).iterator();
+
+		return new Iterator<>() {
+			private int from = 0;
+			private boolean finished = false;
+
+			@Override
+			public boolean hasNext() {
+				return !this.finished;
+			}
+
+			@Override
+			public CharSequence next() {
+				if (this.finished)
+					throw new NoSuchElementException();
+
+				final int index = Splitter.this.indexOf(str, this.from);
+				if (index == -1) {
+					this.finished = true;
+					return str.subSequence(this.from, str.length());
+				}
+
+				final var token = str.subSequence(this.from, Splitter.this.trimEnd(str, this.from, index));
+				this.from = Splitter.this.skipSpaces(str, index + Splitter.this.separator.length());
+				return token;
+			}
+		};
+	}
+
+	/** Returns the index of the next separator in the text, starting at {@code from}, or -1 if there is none. */
+	private int indexOf(@NotNull CharSequence str, int from) {
+		if (str instanceof String string)
+			return this.separator.length() == 1
+				? string.indexOf(this.separator.charAt(0), from)
+				: string.indexOf(this.separator, from);
+
+		final char first = this.separator.charAt(0);
+		final int last = str.length() - this.separator.length();
+
+		outer:
+		for (int i = from; i <= last; i++) {
+			if (str.charAt(i) != first) continue;
+
+			for (int j = 1; j < this.separator.length(); j++)
+				if (str.charAt(i + j) != this.separator.charAt(j)) continue outer;
+
+			return i;
+		}
+
+		return -1;
+	}
+
+	/** Returns the end of the token that ends at {@code end}, not counting the spaces before the separator. */
+	private int trimEnd(@NotNull CharSequence str, int start, int end) {
+		while (end > start && str.charAt(end - 1) == ' ') end--;
+		return end;
+	}
+
+	/** Returns the index of the first character that is not a space, starting at {@code index}. */
+	private int skipSpaces(@NotNull CharSequence str, int index) {
+		while (index < str.length() && str.charAt(index) == ' ') index++;
+		return index;
+	}
+
+	@Override
+	public String toString() {
+		return "Splitter[" + this.separator + "]";
+	}
+}
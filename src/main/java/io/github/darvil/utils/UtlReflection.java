@@ -2,28 +2,141 @@ package io.github.darvil.utils;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public final class UtlReflection {
 	private UtlReflection() {}
 
+	/**
+	 * The constructors found for each class, by the types of the arguments they are called with. A {@link ClassValue}
+	 * is used so that the classes can still be unloaded. Only argument types visible from the class are used as keys,
+	 * so that the cache of a long-lived class never keeps other class loaders alive.
+	 */
+	private static final ClassValue<ConcurrentHashMap<List<Class<?>>, ConstructorHandle>> CONSTRUCTORS =
+		new ClassValue<>() {
+			@Override
+			protected ConcurrentHashMap<List<Class<?>>, ConstructorHandle> computeValue(@NotNull Class<?> type) {
+				return new ConcurrentHashMap<>();
+			}
+		};
+
+	/**
+	 * A constructor found for some argument types.
+	 * @param handle The handle that takes the arguments in an {@code Object[]} and returns the new instance.
+	 * @param paramTypes The type of the parameter each argument is passed to.
+	 */
+	private record ConstructorHandle(@NotNull MethodHandle handle, @NotNull Class<?> @NotNull [] paramTypes) {}
+
+	/** The names returned by {@link #getSimpleName(Class)}, computed once per class. */
+	private static final ClassValue<String> SIMPLE_NAMES = new ClassValue<>() {
+		@Override
+		protected String computeValue(@NotNull Class<?> type) {
+			String name;
+
+			do {
+				name = type.getSimpleName();
+			} while (name.isEmpty() && ((type = type.getSuperclass()) != null));
+
+			return name;
+		}
+	};
+
+	/** The names returned by {@link #getQualifiedName(Class)}, computed once per class. */
+	private static final ClassValue<String> QUALIFIED_NAMES = new ClassValue<>() {
+		@Override
+		protected String computeValue(@NotNull Class<?> type) {
+			final var original = type;
+			String name;
+
+			do {
+				name = type.getCanonicalName();
+			} while (name == null && ((type = type.getSuperclass()) != null));
+
+			// only interfaces get here, since Object has a canonical name
+			return name == null ? original.getName() : name;
+		}
+	};
+
 	/**
 	 * Returns the simple name of the given class. If the class is an anonymous class, then the simple name
 	 * of the superclass is returned.
+	 * <p>
+	 * The name of each class is only computed once, so this is cheap to call repeatedly.
+	 * </p>
 	 *
 	 * @param clazz The class to get the simple name of.
 	 * @return The simple name of the given class.
 	 */
 	public static @NotNull String getSimpleName(@NotNull Class<?> clazz) {
-		String name;
+		return UtlReflection.SIMPLE_NAMES.get(clazz);
+	}
+
+	/**
+	 * Returns the fully qualified name of the given class, such as {@code java.util.Map.Entry}. If the class is an
+	 * anonymous, local or hidden class, then the qualified name of the superclass is returned.
+	 * <p>
+	 * The name of each class is only computed once, so this is cheap to call repeatedly.
+	 * </p>
+	 *
+	 * @param clazz The class to get the qualified name of.
+	 * @return The qualified name of the given class.
+	 */
+	public static @NotNull String getQualifiedName(@NotNull Class<?> clazz) {
+		return UtlReflection.QUALIFIED_NAMES.get(clazz);
+	}
+
+	/**
+	 * Returns the simple names of the given classes, separated by the given delimiter.
+	 * @param classes The classes to get the simple names of.
+	 * @param delimiter The delimiter to place between the names.
+	 * @return The names joined.
+	 * @see #getSimpleName(Class)
+	 */
+	public static @NotNull String joinSimpleNames(
+		@NotNull Iterable<? extends @NotNull Class<?>> classes,
+		@NotNull String delimiter
+	) {
+		return UtlReflection.joinNames(classes, delimiter, UtlReflection.SIMPLE_NAMES);
+	}
 
-		do {
-			name = clazz.getSimpleName();
-		} while (name.isEmpty() && ((clazz = clazz.getSuperclass()) != null));
+	/**
+	 * Returns the qualified names of the given classes, separated by the given delimiter.
+	 * @param classes The classes to get the qualified names of.
+	 * @param delimiter The delimiter to place between the names.
+	 * @return The names joined.
+	 * @see #getQualifiedName(Class)
+	 */
+	public static @NotNull String joinQualifiedNames(
+		@NotNull Iterable<? extends @NotNull Class<?>> classes,
+		@NotNull String delimiter
+	) {
+		return UtlReflection.joinNames(classes, delimiter, UtlReflection.QUALIFIED_NAMES);
+	}
+
+	private static @NotNull String joinNames(
+		@NotNull Iterable<? extends Class<?>> classes,
+		@NotNull String delimiter,
+		@NotNull ClassValue<String> names
+	) {
+		final var result = new StringBuilder();
+
+		for (var clazz : classes) {
+			if (!result.isEmpty())
+				result.append(delimiter);
+			result.append(names.get(clazz));
+		}
 
-		return name;
+		return result.toString();
 	}
 
 	/**
@@ -54,22 +167,26 @@ public final class UtlReflection {
 	}
 
 	/**
-	 * Instantiates the given class with the given arguments.
+	 * Instantiates the given class with the given arguments. The most specific public constructor that can take the
+	 * arguments is used, allowing subtypes, boxing and varargs. If there is none, a public static factory method of the
+	 * class is used instead.
 	 * @param clazz The class to instantiate.
 	 * @param args The arguments to pass to the constructor.
 	 * @param <T> The type of the class.
 	 * @return The instantiated class. If the class could not be instantiated, a {@link RuntimeException} is thrown.
 	 */
 	public static <T> T instantiate(Class<T> clazz, @NotNull List<@NotNull Object> args) {
-		return UtlReflection.instantiate(
-			clazz,
-			args.stream().map(Object::getClass).toList(),
-			args
-		);
+		final var argsArray = args.toArray();
+		final var argTypes = new Class<?>[argsArray.length];
+		for (int i = 0; i < argsArray.length; i++)
+			argTypes[i] = argsArray[i].getClass();
+
+		return UtlReflection.invokeConstructor(UtlReflection.getConstructor(clazz, List.of(argTypes)), clazz, argsArray);
 	}
 
 	/**
-	 * Instantiates the given class with the given arguments.
+	 * Instantiates the given class with the given arguments. The constructor is picked in the same way as in
+	 * {@link #instantiate(Class, List)}, using the given types.
 	 * @param clazz The class to instantiate.
 	 * @param argTypes The types of the arguments to pass to the constructor.
 	 * @param args The arguments to pass to the constructor.
@@ -81,8 +198,123 @@ public final class UtlReflection {
 		@NotNull List<? extends Class<?>> argTypes,
 		@NotNull List<Object> args
 	) {
+		if (argTypes.size() != args.size())
+			throw new IllegalArgumentException("wrong number of arguments");
+
+		return UtlReflection.invokeConstructor(
+			UtlReflection.getConstructor(clazz, List.copyOf(argTypes)), clazz, args.toArray()
+		);
+	}
+
+	/**
+	 * Returns a {@link Supplier} that instantiates the given class with a no-argument constructor. The constructor is
+	 * only looked up once, so this is the fastest way to create many instances of a class.
+	 * @param clazz The class to instantiate.
+	 * @param <T> The type of the class.
+	 * @return The supplier. If the class has no such constructor, a {@link RuntimeException} is thrown.
+	 */
+	public static <T> @NotNull Supplier<T> getFactory(Class<T> clazz) {
+		final var constructor = UtlReflection.getConstructor(clazz, List.of());
+		final var noArgs = new Object[0];
+		return () -> UtlReflection.invokeConstructor(constructor, clazz, noArgs);
+	}
+
+	/**
+	 * Returns a {@link Function} that instantiates the given class with the constructor that takes the given types.
+	 * The constructor is only looked up once.
+	 * @param clazz The class to instantiate.
+	 * @param argTypes The types of the parameters of the constructor.
+	 * @param <T> The type of the class.
+	 * @return The function, which takes the arguments to pass to the constructor. If the class has no such
+	 * 	constructor, a {@link RuntimeException} is thrown.
+	 */
+	public static <T> @NotNull Function<@NotNull List<Object>, T> getFactory(
+		Class<T> clazz,
+		@NotNull List<? extends Class<?>> argTypes
+	) {
+		final var constructor = UtlReflection.getConstructor(clazz, List.copyOf(argTypes));
+		final int argCount = argTypes.size();
+
+		return args -> {
+			if (args.size() != argCount)
+				throw new IllegalArgumentException("wrong number of arguments");
+
+			return UtlReflection.invokeConstructor(constructor, clazz, args.toArray());
+		};
+	}
+
+	/**
+	 * Returns the constructor of the given class to call with arguments of the given types, from the cache if possible.
+	 * If no constructor can be found, static factory methods are used.
+	 * @see ConstructorResolver
+	 */
+	private static @NotNull ConstructorHandle getConstructor(@NotNull Class<?> clazz, @NotNull List<Class<?>> argTypes) {
+		final var cache = UtlReflection.CONSTRUCTORS.get(clazz);
+
+		var constructor = cache.get(argTypes);
+		if (constructor == null) {
+			constructor = UtlReflection.findConstructor(clazz, argTypes);
+			if (UtlReflection.areVisibleFrom(argTypes, clazz))
+				cache.putIfAbsent(argTypes, constructor);
+		}
+
+		return constructor;
+	}
+
+	/**
+	 * Returns {@code true} if all the given types are loaded by the class loader of {@code from}, or by one of its
+	 * parents. Keeping such types referenced from {@code from} does not prevent any other class loader from being
+	 * unloaded.
+	 */
+	static boolean areVisibleFrom(@NotNull Iterable<? extends Class<?>> types, @NotNull Class<?> from) {
+		final var loader = from.getClassLoader();
+
+		outer:
+		for (var type : types) {
+			final var typeLoader = type.getClassLoader();
+			if (typeLoader == null) continue;
+
+			for (var current = loader; current != null; current = current.getParent())
+				if (current == typeLoader) continue outer;
+
+			return false;
+		}
+
+		return true;
+	}
+
+	private static @NotNull ConstructorHandle findConstructor(@NotNull Class<?> clazz, @NotNull List<Class<?>> argTypes) {
 		try {
-			return clazz.getConstructor(argTypes.toArray(Class[]::new)).newInstance(args.toArray());
+			final var match = ConstructorResolver.resolve(clazz, argTypes);
+
+			if (match == null) {
+				if (Modifier.isAbstract(clazz.getModifiers()))
+					throw new InstantiationException(clazz.getName());
+				throw new NoSuchMethodException(clazz.getName() + ".<init>" + argTypes);
+			}
+
+			// method handles require the module of the class to be readable, unlike reflection
+			UtlReflection.class.getModule().addReads(clazz.getModule());
+
+			final var executable = match.executable();
+			var handle = executable instanceof Method method
+				? MethodHandles.lookup().unreflect(method)
+				: MethodHandles.lookup().unreflectConstructor((Constructor<?>)executable);
+
+			if (match.varargs()) {
+				// collect the trailing arguments into the array expected by the executable
+				final int fixedCount = executable.getParameterCount() - 1;
+				handle = handle.asCollector(
+					executable.getParameterTypes()[fixedCount], argTypes.size() - fixedCount
+				);
+			}
+
+			return new ConstructorHandle(
+				handle
+					.asSpreader(Object[].class, argTypes.size())
+					.asType(MethodType.methodType(Object.class, Object[].class)),
+				handle.type().parameterArray()
+			);
 		} catch (NoSuchMethodException e) {
 			throw new RuntimeException("Unable to find a public constructor for the class '" + clazz.getName()
 				+ """
@@ -105,8 +337,34 @@ public final class UtlReflection {
 					+ "'. Please make sure this class is not abstract.",
 				e
 			);
-		} catch (InvocationTargetException e) {
-			throw new RuntimeException(e);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Calls the given constructor with the given arguments. Exceptions thrown by the constructor are wrapped in an
+	 * {@link InvocationTargetException}, which is wrapped in a {@link RuntimeException}. Errors are not wrapped.
+	 * @throws IllegalArgumentException If an argument cannot be passed to its parameter.
+	 */
+	private static <T> T invokeConstructor(
+		@NotNull ConstructorHandle constructor,
+		@NotNull Class<T> clazz,
+		Object @NotNull [] args
+	) {
+		final var paramTypes = constructor.paramTypes;
+		for (int i = 0; i < args.length; i++) {
+			if (!ConstructorResolver.accepts(paramTypes[i], args[i]))
+				throw new IllegalArgumentException(
+					"argument " + i + " of type " + (args[i] == null ? "null" : args[i].getClass().getName())
+						+ " cannot be passed to a parameter of type " + paramTypes[i].getName()
+				);
+		}
+
+		try {
+			return clazz.cast((Object)constructor.handle.invokeExact(args));
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RuntimeException(new InvocationTargetException(e));
+		}
+	}
+}
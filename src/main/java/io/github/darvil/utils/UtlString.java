@@ -3,8 +3,11 @@ package io.github.darvil.utils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.regex.Pattern;
-import java.util.stream.Stream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 
 public final class UtlString {
 	private UtlString() {}
@@ -15,13 +18,24 @@ public final class UtlString {
 	/**
 	 * Get the longest line from the contents of a string. Lines are separated by newlines and
 	 * the length is calculated without counting the escape sequences.
+	 * If multiple lines have the same length, the first one is returned.
+	 * @see LineScanner
 	 */
 	public static @NotNull String getLongestLine(@NotNull String str) {
-		return Stream.of(str.split("\n"))
-			.map(s -> new Pair<>(s, UtlString.getLengthIgnoreSequences(s)))
-			.min((a, b) -> b.second() - a.second())
-			.map(Pair::first)
-			.orElse("");
+		final var scanner = new LineScanner(str);
+		scanner.findLongest();
+		return str.substring(scanner.start(), scanner.end());
+	}
+
+	/**
+	 * Get the widest line from the contents of a string. Lines are separated by newlines and
+	 * the width is the number of columns the line takes when displayed (see {@link DisplayWidth}).
+	 * If multiple lines have the same width, the first one is returned.
+	 */
+	public static @NotNull String getWidestLine(@NotNull String str) {
+		final var scanner = new LineScanner(str);
+		scanner.findWidest();
+		return str.substring(scanner.start(), scanner.end());
 	}
 
 	/**
@@ -41,62 +55,69 @@ public final class UtlString {
 		if (str.length() <= maxWidth || !(str.contains(" ") || str.contains("\t")))
 			return str;
 
-		final var wordBuff = new StringBuilder(); // buffer for the current word
-		final var endBuffer = new StringBuilder(); // buffer for the final string. words are pushed here
-		final var indentBuff = new StringBuilder(); // buffer for the current indentation that will be added to the beginning of each line if needed
+		final var out = new StringWriter(str.length() + str.length() / maxWidth);
 
-		int lineWidth = 0; // the current line width
-		boolean jumped = true; // true if a newline was added. starts off as true in case the string starts with indentation
-
-		for (char chr : str.toCharArray()) {
-			if (chr == ' ' || chr == '\t') {
-				// if the word buffer is empty, we are at the beginning of a line, so we save this indentation
-				if (wordBuff.isEmpty())
-					indentBuff.append(chr);
-
-					// if the word buffer is not empty, we are in the middle of a word, so append the word buffer to the end buffer
-				else {
-					// add a newline if the line width exceeds the maximum width
-					if (lineWidth >= maxWidth) {
-						endBuffer.append('\n').append(indentBuff);
-						lineWidth = indentBuff.length();
-					}
-					endBuffer.append(wordBuff).append(chr);
-					// make sure to not count escape sequences on the length!
-					lineWidth += UtlString.removeSequences(wordBuff.toString()).length() + 1; // +1 for the char we just added
-					wordBuff.setLength(0);
-				}
-
-				/* if the char is a newline, same as above but we reset the indentation
-				 * After this character, new indentation may be added. We need to push the new one right when the
-				 * next word starts, so jumped is set to true and checked below. */
-			} else if (chr == '\n') {
-				endBuffer.append(wordBuff).append('\n');
-				wordBuff.setLength(0);
-				indentBuff.setLength(0);
-				jumped = true;
-				lineWidth = 0;
-
-				/* just append any other character to the word buffer.
-				 * we need to append the indentation to the end buffer if we jumped to a new line */
-			} else {
-				if (jumped) {
-					endBuffer.append(indentBuff);
-					jumped = false;
-					lineWidth = indentBuff.length();
-				}
-				wordBuff.append(chr);
-			}
+		try {
+			final var writer = new WrappingWriter(out, maxWidth);
+			writer.write(str);
+			writer.finish();
+		} catch (IOException e) {
+			// a StringWriter never throws
+			throw new UncheckedIOException(e);
 		}
 
-		if (!wordBuff.isEmpty()) {
-			if (lineWidth >= maxWidth) {
-				endBuffer.append('\n').append(indentBuff);
-			}
-			endBuffer.append(wordBuff);
+		return out.toString();
+	}
+
+	/**
+	 * Wraps a string into multiple lines in order to fit in the given maximum width. Unlike
+	 * {@link UtlString#wrap(String, int)}, the width is the number of columns the text takes when displayed
+	 * (see {@link DisplayWidth}), so wide characters such as CJK characters or emoji count as two columns, and
+	 * combining characters count as none.
+	 *
+	 * @param str The text to wrap.
+	 * @param maxWidth The maximum width that the text should never exceed.
+	 * @return The wrapped text.
+	 */
+	public static @NotNull String wrapByDisplayWidth(@NotNull String str, int maxWidth) {
+		if (maxWidth <= 0)
+			throw new IllegalArgumentException("maxWidth must be greater than 0");
+
+		if (!(str.contains(" ") || str.contains("\t")) || DisplayWidth.of(str) <= maxWidth)
+			return str;
+
+		final var out = new StringWriter(str.length() + str.length() / maxWidth);
+
+		try {
+			final var writer = new WrappingWriter(out, maxWidth, true);
+			writer.write(str);
+			writer.finish();
+		} catch (IOException e) {
+			// a StringWriter never throws
+			throw new UncheckedIOException(e);
 		}
 
-		return endBuffer.toString();
+		return out.toString();
+	}
+
+	/**
+	 * Wraps the text read from {@code in} into multiple lines in order to fit in the given maximum width, and writes
+	 * the result to {@code out}. Wrapping respects words and indentation, so no word will be split in two lines and
+	 * indentation will be preserved.
+	 * <p>
+	 * The text is wrapped while it is read, so the whole text is never held in memory.
+	 * Neither of the streams is closed.
+	 * </p>
+	 * @param in The reader to read the text to wrap from.
+	 * @param out The writer to write the wrapped text to.
+	 * @param maxWidth The maximum width that the text should never exceed.
+	 * @throws IOException if an I/O error occurs while reading or writing.
+	 * @see WrappingWriter
+	 */
+	public static void wrap(@NotNull Reader in, @NotNull Writer out, int maxWidth) throws IOException {
+		final var writer = new WrappingWriter(out, maxWidth);
+		in.transferTo(writer);
+		writer.finish();
 	}
 
 	/**
@@ -167,17 +188,179 @@ public final class UtlString {
 	}
 
 	/**
-	 * Remove all formatting colors or format from the string
+	 * Centers a string in a given width. {@code padChar} is used to fill the remaining space.
+	 * Unlike {@link UtlString#center(String, int, char)}, the width of the string is the number of columns it takes
+	 * when displayed (see {@link DisplayWidth}). The padding is equal on both sides of the string, even if the
+	 * width is odd.
+	 * <p>
+	 * If the string is wider than the width, it is returned as is.
+	 * </p>
+	 * @param str The string to center.
+	 * @param width The width to center the string in.
+	 * @param padChar The character to use for padding.
+	 * @return The centered string.
+	 */
+	public static @NotNull String centerByDisplayWidth(@NotNull String str, int width, char padChar) {
+		final int strWidth = DisplayWidth.of(str);
+		if (strWidth >= width)
+			return str;
+
+		final var paddingString = String.valueOf(padChar).repeat((width / 2) - (strWidth / 2));
+
+		return paddingString + str + paddingString;
+	}
+
+	/**
+	 * Centers a string in a given width. '-' is used to fill the remaining space.
+	 * The width of the string is the number of columns it takes when displayed.
+	 * @param str The string to center.
+	 * @param width The width to center the string in.
+	 * @return The centered string.
+	 * @see UtlString#centerByDisplayWidth(String, int, char)
+	 */
+	public static @NotNull String centerByDisplayWidth(@NotNull String str, int width) {
+		return UtlString.centerByDisplayWidth(str, width, '-');
+	}
+
+	/**
+	 * Remove all formatting colors or format from the string. This removes all CSI sequences
+	 * (such as {@code ESC[31m}), but keeps OSC sequences.
+	 * <p>
+	 * If the string contains no escape characters, the same instance is returned.
+	 * </p>
+	 * @see UtlString#removeSequences(String, boolean)
 	 */
 	public static @NotNull String removeSequences(@NotNull String str) {
-		return str.replaceAll(ESCAPE_CHAR + "\\[[\\d;]*m", "");
+		return UtlString.removeSequences(str, false);
+	}
+
+	/**
+	 * Remove all CSI sequences (such as {@code ESC[31m}) from the string. If {@code includeOsc} is {@code true},
+	 * OSC sequences (such as hyperlinks, {@code ESC]8;;url ESC\}) are removed as well.
+	 * Incomplete sequences are left untouched.
+	 * <p>
+	 * If the string contains no escape characters, the same instance is returned.
+	 * </p>
+	 * @param str the string to remove the sequences from
+	 * @param includeOsc whether to also remove OSC sequences
+	 * @return the string without the sequences
+	 */
+	public static @NotNull String removeSequences(@NotNull String str, boolean includeOsc) {
+		int index = str.indexOf(ESCAPE_CHAR);
+		if (index == -1)
+			return str;
+
+		final var length = str.length();
+		final var buff = new StringBuilder(length);
+		int copyFrom = 0;
+
+		// copy the chunks between the sequences found
+		for (; index < length; index++) {
+			if (str.charAt(index) != ESCAPE_CHAR) continue;
+
+			final int seqLength = UtlString.getSequenceLength(str, index, length, includeOsc);
+			if (seqLength == 0) continue;
+
+			buff.append(str, copyFrom, index);
+			index += seqLength - 1;
+			copyFrom = index + 1;
+		}
+
+		return buff.append(str, copyFrom, length).toString();
 	}
 
 	/**
 	 * Returns the length of the string, ignoring any formatting sequences.
+	 * @see UtlString#visibleLength(CharSequence)
 	 */
 	public static int getLengthIgnoreSequences(@NotNull String str) {
-		return UtlString.removeSequences(str).length();
+		return UtlString.visibleLength(str);
+	}
+
+	/**
+	 * Returns the number of characters of the given text that are not part of a CSI sequence.
+	 * No new string is built.
+	 * @param str the text to measure
+	 * @return the visible length of the text
+	 * @see UtlString#visibleLength(CharSequence, boolean)
+	 */
+	public static int visibleLength(@NotNull CharSequence str) {
+		return UtlString.visibleLength(str, false);
+	}
+
+	/**
+	 * Returns the number of characters of the given text that are not part of a CSI sequence. If
+	 * {@code includeOsc} is {@code true}, characters of OSC sequences are not counted either.
+	 * No new string is built.
+	 * @param str the text to measure
+	 * @param includeOsc whether to also ignore OSC sequences
+	 * @return the visible length of the text
+	 */
+	public static int visibleLength(@NotNull CharSequence str, boolean includeOsc) {
+		return UtlString.visibleLength(str, 0, str.length(), includeOsc);
+	}
+
+	/**
+	 * Returns the number of characters between {@code start} (inclusive) and {@code end} (exclusive) that are
+	 * not part of a sequence.
+	 */
+	static int visibleLength(@NotNull CharSequence str, int start, int end, boolean includeOsc) {
+		int length = end - start;
+
+		for (int i = start; i < end; i++) {
+			if (str.charAt(i) != ESCAPE_CHAR) continue;
+
+			final int seqLength = UtlString.getSequenceLength(str, i, end, includeOsc);
+			if (seqLength == 0) continue;
+
+			length -= seqLength;
+			i += seqLength - 1;
+		}
+
+		return length;
+	}
+
+	/**
+	 * Returns the length of the sequence that starts at the given index (which must contain an escape character),
+	 * or 0 if no complete sequence starts there.
+	 * <p>
+	 * CSI sequences are {@code ESC [}, followed by any number of parameter bytes ({@code 0x30-0x3F}), any number
+	 * of intermediate bytes ({@code 0x20-0x2F}) and a final byte ({@code 0x40-0x7E}).
+	 * OSC sequences are {@code ESC ]}, followed by any text and terminated by either {@code BEL} or {@code ESC \}.
+	 * </p>
+	 * @param str the text to scan
+	 * @param index the index of the escape character
+	 * @param end the index at which to stop scanning (exclusive)
+	 * @param includeOsc whether to also match OSC sequences
+	 * @return the length of the sequence, including the escape character
+	 */
+	static int getSequenceLength(@NotNull CharSequence str, int index, int end, boolean includeOsc) {
+		if (index + 1 >= end) return 0;
+
+		final char introducer = str.charAt(index + 1);
+		int i = index + 2;
+
+		if (introducer == '[') {
+			while (i < end && str.charAt(i) >= 0x30 && str.charAt(i) <= 0x3F) i++; // parameter bytes
+			while (i < end && str.charAt(i) >= 0x20 && str.charAt(i) <= 0x2F) i++; // intermediate bytes
+
+			return i < end && str.charAt(i) >= 0x40 && str.charAt(i) <= 0x7E
+				? i + 1 - index
+				: 0;
+		}
+
+		if (introducer == ']' && includeOsc) {
+			for (; i < end; i++) {
+				final char chr = str.charAt(i);
+
+				if (chr == 0x07)
+					return i + 1 - index;
+				if (chr == ESCAPE_CHAR)
+					return i + 1 < end && str.charAt(i + 1) == '\\' ? i + 2 - index : 0;
+			}
+		}
+
+		return 0;
 	}
 
 	/**
@@ -220,9 +403,10 @@ public final class UtlString {
 	 * @param splitter the splitter
 	 * @param max the maximum amount of splits
 	 * @return the split string
+	 * @see Splitter
 	 */
 	public static @NotNull String @NotNull [] split(@NotNull String str, @NotNull String splitter, int max) {
-		return str.split(" *" + Pattern.quote(splitter) + " *", max);
+		return Splitter.on(splitter).split(str, max);
 	}
 
 	/**
@@ -234,7 +418,7 @@ public final class UtlString {
 	 * @return the split string
 	 */
 	public static @NotNull String @NotNull [] split(@NotNull String str, char splitter, int max) {
-		return UtlString.split(str, String.valueOf(splitter), max);
+		return Splitter.on(splitter).split(str, max);
 	}
 
 	/**
@@ -243,7 +427,7 @@ public final class UtlString {
 	 * @see UtlString#split(String, char, int)
 	 */
 	public static @NotNull String @NotNull [] split(@NotNull String str, char splitter) {
-		return UtlString.split(str, String.valueOf(splitter), -1);
+		return Splitter.on(splitter).split(str, -1);
 	}
 
 	/**
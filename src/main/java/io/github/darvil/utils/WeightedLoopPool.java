@@ -0,0 +1,364 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A pool of elements that are picked according to their weights, skipping the ones that are marked as unhealthy.
+ * Useful for spreading load over a set of backends with different capacities. The pool is thread-safe.
+ * <p>
+ * Elements can be picked in two ways, specified by a {@link Mode}:
+ * <ul>
+ *     <li>{@link Mode#SMOOTH_ROUND_ROBIN}: Elements are looped through, each one appearing as many times as its weight,
+ *     but spread as evenly as possible. (The same algorithm used by nginx)</li>
+ *     <li>{@link Mode#POWER_OF_TWO_CHOICES}: Two random elements are drawn in proportion to their weights, and the one
+ *     that was picked less often for its weight is used.</li>
+ * </ul>
+ * <p>
+ * Weights and health flags can be changed at any time. Each change builds a new state with the elements that can be
+ * picked and the tables used to pick them, which is swapped atomically, so {@link #next()} never allocates nor locks.
+ * </p>
+ * @param <T> The type of the elements in the pool.
+ */
+public final class WeightedLoopPool<T> {
+	private final T @NotNull [] pool;
+	private final @NotNull Mode mode;
+	private final AtomicReference<State> state;
+
+	/**
+	 * The maximum length of the schedule precomputed for {@link Mode#SMOOTH_ROUND_ROBIN}, once the weights are divided
+	 * by their greatest common divisor. Longer sequences are computed as they are picked.
+	 */
+	private static final int MAX_SCHEDULE_LENGTH = 4096;
+
+	/**
+	 * The current weight of each element, used by {@link Mode#SMOOTH_ROUND_ROBIN} when the sequence is too long to be
+	 * precomputed. Guarded by itself.
+	 */
+	private final long @NotNull [] currentWeights;
+	/** The state {@link #currentWeights} were computed for. Guarded by {@link #currentWeights}. */
+	private @Nullable State currentWeightsState;
+
+	/** The way elements are picked from a {@link WeightedLoopPool}. */
+	public enum Mode {
+		/**
+		 * Elements are looped through so that each one appears as many times as its weight, spread as evenly as
+		 * possible. For weights {@code 5, 1, 1}, the elements are picked in the order {@code a, a, b, a, c, a, a}.
+		 * <p>
+		 * The sequence is precomputed when the weights change, so each pick takes constant time. If the sum of the
+		 * weights (divided by their greatest common divisor) is greater than 4096, each pick checks the weights of all
+		 * the elements instead.
+		 * </p>
+		 */
+		SMOOTH_ROUND_ROBIN,
+		/**
+		 * Two random elements are drawn with a probability proportional to their weights, and the one that was picked
+		 * fewer times relative to its weight is used. Each element gets a share of the picks proportional to its
+		 * weight, while consecutive picks are spread over different elements. Each pick takes constant time.
+		 */
+		POWER_OF_TWO_CHOICES
+	}
+
+	/**
+	 * The weights and health flags of the elements, along with the elements that can be picked.
+	 * @param weights The weights of the elements.
+	 * @param healthy The health flags of the elements.
+	 * @param candidates The indices of the healthy elements with a weight greater than 0.
+	 * @param totalWeight The sum of the weights of the candidates.
+	 * @param schedule The sequence of indices picked by {@link Mode#SMOOTH_ROUND_ROBIN}, or {@code null} if it is too
+	 * 	long to be precomputed.
+	 * @param sampler Draws candidates (positions in {@code candidates}) in proportion to their weights, used by
+	 * 	{@link Mode#POWER_OF_TWO_CHOICES}.
+	 * @param position The number of picks done with this state.
+	 * @param picks The number of times each element was picked with this state, used by
+	 * 	{@link Mode#POWER_OF_TWO_CHOICES}.
+	 */
+	private record State(
+		int @NotNull [] weights,
+		boolean @NotNull [] healthy,
+		int @NotNull [] candidates,
+		long totalWeight,
+		int @Nullable [] schedule,
+		@Nullable AliasSampler sampler,
+		@NotNull AtomicLong position,
+		@Nullable AtomicLongArray picks
+	) {}
+
+	@SafeVarargs
+	private WeightedLoopPool(@NotNull Mode mode, T @NotNull ... pool) {
+		if (pool.length == 0)
+			throw new IllegalArgumentException("pool must have at least one element");
+
+		this.pool = pool;
+		this.mode = mode;
+		this.currentWeights = new long[pool.length];
+
+		final var weights = new int[pool.length];
+		final var healthy = new boolean[pool.length];
+		Arrays.fill(weights, 1);
+		Arrays.fill(healthy, true);
+		this.state = new AtomicReference<>(WeightedLoopPool.createState(mode, weights, healthy));
+	}
+
+	/**
+	 * Creates a new {@link WeightedLoopPool} with the given elements. All elements start with a weight of 1, and are
+	 * healthy.
+	 * @param mode The way elements are picked.
+	 * @param pool The elements to pick from.
+	 * @return A new {@link WeightedLoopPool} with the given elements.
+	 * @param <T> The type of the elements.
+	 */
+	@SafeVarargs
+	public static <T> WeightedLoopPool<T> of(@NotNull Mode mode, T... pool) {
+		return new WeightedLoopPool<>(mode, pool);
+	}
+
+	/**
+	 * Returns the next element to use.
+	 * @return The element picked.
+	 * @throws IllegalStateException If there are no healthy elements with a weight greater than 0.
+	 */
+	public T next() {
+		final var state = this.state.get();
+		final var candidates = state.candidates;
+
+		if (candidates.length == 0)
+			throw new IllegalStateException("no healthy elements to pick from");
+
+		if (candidates.length == 1)
+			return this.pool[candidates[0]];
+
+		return this.pool[
+			this.mode == Mode.SMOOTH_ROUND_ROBIN
+				? this.nextSmoothRoundRobin(state)
+				: WeightedLoopPool.nextPowerOfTwoChoices(state)
+		];
+	}
+
+	private int nextSmoothRoundRobin(@NotNull State state) {
+		final var schedule = state.schedule;
+		if (schedule != null)
+			return schedule[(int)(state.position.getAndIncrement() % schedule.length)];
+
+		final var current = this.currentWeights;
+
+		synchronized (current) {
+			// the sequence starts over when the weights change
+			if (this.currentWeightsState != state) {
+				Arrays.fill(current, 0);
+				this.currentWeightsState = state;
+			}
+
+			return WeightedLoopPool.smoothRoundRobinStep(current, state.weights, state.candidates, state.totalWeight);
+		}
+	}
+
+	/**
+	 * Each pick, the weight of each element is added to its current weight, and the element with the highest one is
+	 * picked, which then has its current weight decreased by the total weight. After as many picks as the total weight,
+	 * all current weights are back to 0, so the sequence repeats.
+	 */
+	private static int smoothRoundRobinStep(
+		long @NotNull [] current,
+		int @NotNull [] weights,
+		int @NotNull [] candidates,
+		long totalWeight
+	) {
+		int best = -1;
+		for (int index : candidates) {
+			current[index] += weights[index];
+			if (best == -1 || current[index] > current[best]) best = index;
+		}
+
+		current[best] -= totalWeight;
+		return best;
+	}
+
+	private static int nextPowerOfTwoChoices(@NotNull State state) {
+		// both are only null when there is a single candidate, which is handled by next()
+		final var sampler = state.sampler;
+		final var picks = state.picks;
+
+		final var random = Random.generator();
+		final int first = state.candidates[sampler.next(random)];
+		final int second = state.candidates[sampler.next(random)];
+
+		// use the one with fewer picks per unit of weight, so the shares converge to the weights
+		final int picked = picks.get(first) * (double)state.weights[second]
+			<= picks.get(second) * (double)state.weights[first]
+			? first : second;
+
+		picks.getAndIncrement(picked);
+		return picked;
+	}
+
+	/**
+	 * Sets the weight of the element at the given index. An element with a weight of 0 is never picked.
+	 * @param index The index of the element.
+	 * @param weight The new weight.
+	 */
+	public void setWeight(int index, int weight) {
+		this.checkIndex(index);
+		WeightedLoopPool.checkWeight(weight);
+
+		this.state.updateAndGet(state -> {
+			final var weights = state.weights.clone();
+			weights[index] = weight;
+			return WeightedLoopPool.createState(this.mode, weights, state.healthy);
+		});
+	}
+
+	/**
+	 * Sets the health flag of the element at the given index. Unhealthy elements are never picked.
+	 * @param index The index of the element.
+	 * @param healthy Whether the element is healthy.
+	 */
+	public void setHealthy(int index, boolean healthy) {
+		this.checkIndex(index);
+
+		this.state.updateAndGet(state -> {
+			final var flags = state.healthy.clone();
+			flags[index] = healthy;
+			return WeightedLoopPool.createState(this.mode, state.weights, flags);
+		});
+	}
+
+	/**
+	 * Sets the weights and health flags of all the elements at once.
+	 * @param weights The new weights. Must have one weight per element.
+	 * @param healthy The new health flags. Must have one flag per element.
+	 */
+	public void update(int @NotNull [] weights, boolean @NotNull [] healthy) {
+		if (weights.length != this.pool.length || healthy.length != this.pool.length)
+			throw new IllegalArgumentException("there must be one weight and one health flag per element");
+
+		for (int weight : weights)
+			WeightedLoopPool.checkWeight(weight);
+
+		this.state.set(WeightedLoopPool.createState(this.mode, weights.clone(), healthy.clone()));
+	}
+
+	/**
+	 * Returns the weight of the element at the given index.
+	 * @param index The index of the element.
+	 * @return The weight of the element.
+	 */
+	public int getWeight(int index) {
+		this.checkIndex(index);
+		return this.state.get().weights[index];
+	}
+
+	/**
+	 * Returns whether the element at the given index is healthy.
+	 * @param index The index of the element.
+	 * @return {@code true} if the element is healthy.
+	 */
+	public boolean isHealthy(int index) {
+		this.checkIndex(index);
+		return this.state.get().healthy[index];
+	}
+
+	/**
+	 * Returns the number of elements in the pool.
+	 * @return The number of elements in the pool.
+	 */
+	public int size() {
+		return this.pool.length;
+	}
+
+	/**
+	 * Returns the way elements are picked.
+	 * @return The mode of this pool.
+	 */
+	public @NotNull Mode getMode() {
+		return this.mode;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= this.pool.length)
+			throw new IllegalArgumentException("index must be between 0 and " + (this.pool.length - 1));
+	}
+
+	private static void checkWeight(int weight) {
+		if (weight < 0)
+			throw new IllegalArgumentException("weight must be positive or 0");
+	}
+
+	private static @NotNull State createState(
+		@NotNull Mode mode,
+		int @NotNull [] weights,
+		boolean @NotNull [] healthy
+	) {
+		// only the elements that can be picked are used
+		final var indices = new int[weights.length];
+		int count = 0;
+		long total = 0;
+		for (int i = 0; i < weights.length; i++) {
+			if (healthy[i] && weights[i] > 0) {
+				indices[count++] = i;
+				total += weights[i];
+			}
+		}
+
+		final var candidates = Arrays.copyOf(indices, count);
+		int[] schedule = null;
+		AliasSampler sampler = null;
+		AtomicLongArray picks = null;
+
+		if (count > 1) {
+			if (mode == Mode.SMOOTH_ROUND_ROBIN) {
+				schedule = WeightedLoopPool.createSchedule(weights, candidates);
+			} else {
+				final var candidateWeights = new double[count];
+				for (int i = 0; i < count; i++)
+					candidateWeights[i] = weights[candidates[i]];
+				sampler = AliasSampler.of(candidateWeights);
+				picks = new AtomicLongArray(weights.length);
+			}
+		}
+
+		return new State(weights, healthy, candidates, total, schedule, sampler, new AtomicLong(), picks);
+	}
+
+	/**
+	 * Precomputes the whole sequence of {@link Mode#SMOOTH_ROUND_ROBIN}. Dividing all the weights by the same value
+	 * gives the same sequence, so they are divided by their greatest common divisor to keep it short.
+	 * @return The sequence, or {@code null} if it is longer than {@link #MAX_SCHEDULE_LENGTH}.
+	 */
+	private static int @Nullable [] createSchedule(int @NotNull [] weights, int @NotNull [] candidates) {
+		int divisor = 0;
+		for (int index : candidates)
+			divisor = WeightedLoopPool.gcd(divisor, weights[index]);
+
+		final var reduced = new int[weights.length];
+		long total = 0;
+		for (int index : candidates) {
+			reduced[index] = weights[index] / divisor;
+			total += reduced[index];
+		}
+
+		if (total > WeightedLoopPool.MAX_SCHEDULE_LENGTH)
+			return null;
+
+		final var schedule = new int[(int)total];
+		final var current = new long[weights.length];
+		for (int i = 0; i < schedule.length; i++)
+			schedule[i] = WeightedLoopPool.smoothRoundRobinStep(current, reduced, candidates, total);
+
+		return schedule;
+	}
+
+	private static int gcd(int a, int b) {
+		while (b != 0) {
+			final int remainder = a % b;
+			a = b;
+			b = remainder;
+		}
+		return a;
+	}
+}
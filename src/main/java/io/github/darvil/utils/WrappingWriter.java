@@ -0,0 +1,269 @@
+package io.github.darvil.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * A {@link Writer} that wraps the text written to it into multiple lines in order to fit in the given maximum
+ * width, and writes the result to another writer. Wrapping respects words and indentation, so no word will be
+ * split in two lines and indentation will be preserved. Formatting sequences are not counted as part of the width.
+ * Whitespace between words is written as it is, so text that does not need wrapping is not changed.
+ * <p>
+ * The text is processed as it is written, using a fixed amount of memory no matter how long the text, its words or
+ * its indentation are. Because a word may only be placed once it is complete, the last word of the text is not
+ * written until {@link #finish()} or {@link #close()} is called.
+ * </p>
+ * Words longer than {@value #BUFFER_SIZE} characters are written as they arrive. If such a word starts when the line
+ * is already full, it is always moved to the next line, even if it is the last word of the line. In the same way,
+ * only the first {@value #BUFFER_SIZE} characters of indentation are repeated on wrapped lines.
+ * @see UtlString#wrap(String, int)
+ */
+public class WrappingWriter extends Writer {
+	/** The size of the word and indentation buffers. */
+	private static final int BUFFER_SIZE = 256;
+
+	private final @NotNull Writer out;
+	private final int maxWidth;
+	/** Whether words are measured by their display width instead of by their length. */
+	private final boolean measureDisplayWidth;
+
+	/** Buffer for the current word. */
+	private final char[] wordBuff = new char[BUFFER_SIZE];
+	/** View over {@link #wordBuff}, used to measure the word without copying it. */
+	private final CharBuffer wordView = CharBuffer.wrap(this.wordBuff);
+	private int wordLength;
+	/** {@code true} if the beginning of the current word was already written because it did not fit in the buffer. */
+	private boolean wordStreamed;
+
+	/** Buffer for the current indentation that will be added to the beginning of each line if needed. */
+	private final char[] indentBuff = new char[BUFFER_SIZE];
+	private int indentLength;
+	/** {@code true} if the indentation of the current line was already written because it did not fit in the buffer. */
+	private boolean indentStreamed;
+
+	/** The current line width. */
+	private int lineWidth;
+	/** {@code true} if a newline was added. Starts off as true in case the text starts with indentation. */
+	private boolean jumped = true;
+
+	/**
+	 * Creates a new {@link WrappingWriter} that writes the wrapped text to the given writer.
+	 * @param out The writer to write the wrapped text to.
+	 * @param maxWidth The maximum width that the text should never exceed.
+	 */
+	public WrappingWriter(@NotNull Writer out, int maxWidth) {
+		this(out, maxWidth, false);
+	}
+
+	/**
+	 * Creates a new {@link WrappingWriter} that writes the wrapped text to the given writer.
+	 * @param out The writer to write the wrapped text to.
+	 * @param maxWidth The maximum width that the text should never exceed.
+	 * @param measureDisplayWidth Whether to measure words by the number of columns they take when displayed
+	 * 	(see {@link DisplayWidth}) instead of by their length.
+	 */
+	public WrappingWriter(@NotNull Writer out, int maxWidth, boolean measureDisplayWidth) {
+		if (maxWidth <= 0)
+			throw new IllegalArgumentException("maxWidth must be greater than 0");
+
+		this.out = out;
+		this.maxWidth = maxWidth;
+		this.measureDisplayWidth = measureDisplayWidth;
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		this.process((char)c);
+	}
+
+	@Override
+	public void write(char @NotNull [] cbuf, int off, int len) throws IOException {
+		for (int i = off; i < off + len; i++)
+			this.process(cbuf[i]);
+	}
+
+	@Override
+	public void write(@NotNull String str, int off, int len) throws IOException {
+		for (int i = off; i < off + len; i++)
+			this.process(str.charAt(i));
+	}
+
+	@Override
+	public @NotNull Writer append(CharSequence csq) throws IOException {
+		return csq == null
+			? this.append("null", 0, 4)
+			: this.append(csq, 0, csq.length());
+	}
+
+	@Override
+	public @NotNull Writer append(CharSequence csq, int start, int end) throws IOException {
+		if (csq == null)
+			csq = "null";
+
+		for (int i = start; i < end; i++)
+			this.process(csq.charAt(i));
+
+		return this;
+	}
+
+	private void process(char chr) throws IOException {
+		if (chr == ' ' || chr == '\t') {
+			// if no word was written on this line yet, we are at the beginning of it, so we save this indentation
+			if (this.jumped) {
+				this.pushIndent(chr);
+				return;
+			}
+
+			// if the word buffer is not empty, we are in the middle of a word, so write the word.
+			// repeated spaces between words are written as they are
+			this.writeWord(true);
+			this.out.write(chr);
+			this.lineWidth++; // for the char we just added
+
+			/* if the char is a newline, same as above but we reset the indentation
+			 * After this character, new indentation may be added. We need to push the new one right when the
+			 * next word starts, so jumped is set to true and checked below. */
+		} else if (chr == '\n') {
+			this.writeWord(false);
+			this.writePendingIndent();
+			this.out.write('\n');
+			this.indentLength = 0;
+			this.indentStreamed = false;
+			this.jumped = true;
+			this.lineWidth = 0;
+
+			/* just push any other character to the word buffer.
+			 * we need to write the indentation if we jumped to a new line */
+		} else {
+			if (this.jumped) {
+				this.writePendingIndent();
+				this.jumped = false;
+				this.indentStreamed = false;
+			}
+			this.pushWord(chr);
+		}
+	}
+
+	/**
+	 * Writes the current word and clears the word buffer.
+	 * @param canJump Whether a newline may be added before the word if the line width exceeds the maximum width.
+	 */
+	private void writeWord(boolean canJump) throws IOException {
+		if (this.wordLength == 0 && !this.wordStreamed) return;
+
+		// add a newline if the line width exceeds the maximum width
+		if (canJump && !this.wordStreamed && this.lineWidth >= this.maxWidth)
+			this.jump();
+
+		this.writeWordPart(this.wordLength);
+		this.wordStreamed = false;
+	}
+
+	/** Adds a newline followed by the current indentation. */
+	private void jump() throws IOException {
+		this.out.write('\n');
+		this.out.write(this.indentBuff, 0, this.indentLength);
+		this.lineWidth = this.indentLength;
+	}
+
+	/** Writes the first {@code length} characters of the word buffer, and removes them from it. */
+	private void writeWordPart(int length) throws IOException {
+		this.out.write(this.wordBuff, 0, length);
+		// make sure to not count escape sequences on the length!
+		this.lineWidth += this.measureDisplayWidth
+			? DisplayWidth.of(this.wordView, 0, length)
+			: UtlString.visibleLength(this.wordView, 0, length, false);
+
+		System.arraycopy(this.wordBuff, length, this.wordBuff, 0, this.wordLength - length);
+		this.wordLength -= length;
+	}
+
+	private void pushWord(char chr) throws IOException {
+		if (this.wordLength == BUFFER_SIZE)
+			this.streamWord();
+		this.wordBuff[this.wordLength++] = chr;
+	}
+
+	/**
+	 * Writes the beginning of the current word, which does not fit in the buffer. Whether to add a newline before the
+	 * word only depends on the line width before it, so it is decided now, assuming the word does not end the line.
+	 */
+	private void streamWord() throws IOException {
+		if (!this.wordStreamed) {
+			if (this.lineWidth >= this.maxWidth)
+				this.jump();
+			this.wordStreamed = true;
+		}
+
+		// keep any unfinished sequence or surrogate pair in the buffer, so they are measured as a whole
+		int split = 0;
+		for (; split < this.wordLength; split++) {
+			if (this.wordBuff[split] != UtlString.ESCAPE_CHAR) continue;
+
+			final int seqLength = UtlString.getSequenceLength(this.wordView, split, this.wordLength, true);
+			if (seqLength == 0) break;
+			split += seqLength - 1;
+		}
+
+		if (split == this.wordLength && Character.isHighSurrogate(this.wordBuff[split - 1]))
+			split--;
+
+		this.writeWordPart(split == 0 ? this.wordLength : split);
+	}
+
+	private void pushIndent(char chr) throws IOException {
+		if (this.indentLength < BUFFER_SIZE) {
+			this.indentBuff[this.indentLength++] = chr;
+			return;
+		}
+
+		this.writePendingIndent();
+		this.indentStreamed = true;
+		this.out.write(chr);
+		this.lineWidth++;
+	}
+
+	/** Writes the indentation of the current line, unless it was already written. */
+	private void writePendingIndent() throws IOException {
+		if (!this.jumped || this.indentStreamed) return;
+
+		this.out.write(this.indentBuff, 0, this.indentLength);
+		this.lineWidth = this.indentLength;
+	}
+
+	/**
+	 * Writes the last word of the text to the underlying writer and flushes it. After this, the state of this
+	 * writer is reset, so it can be used to wrap another text.
+	 * <p>
+	 * The underlying writer is not closed.
+	 * </p>
+	 */
+	public void finish() throws IOException {
+		this.writeWord(true);
+		this.writePendingIndent();
+		this.indentLength = 0;
+		this.indentStreamed = false;
+		this.lineWidth = 0;
+		this.jumped = true;
+		this.out.flush();
+	}
+
+	/**
+	 * Flushes the underlying writer. Note that the current word is not written, since it is not known yet
+	 * whether it will fit in the current line.
+	 */
+	@Override
+	public void flush() throws IOException {
+		this.out.flush();
+	}
+
+	/** Finishes the text (see {@link #finish()}) and closes the underlying writer. */
+	@Override
+	public void close() throws IOException {
+		this.finish();
+		this.out.close();
+	}
+}
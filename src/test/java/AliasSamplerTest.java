@@ -0,0 +1,40 @@
+import io.github.darvil.utils.AliasSampler;
+import io.github.darvil.utils.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AliasSamplerTest {
+	@Test
+	public void testDistribution() {
+		var sampler = AliasSampler.of(1, 3, 0, 6);
+		var generator = Random.seeded(1);
+		var counts = new int[4];
+
+		for (int i = 0; i < 100_000; i++)
+			counts[sampler.next(generator)]++;
+
+		assertEquals(4, sampler.size());
+		assertEquals(0, counts[2]);
+		assertEquals(10_000, counts[0], 600);
+		assertEquals(30_000, counts[1], 1000);
+		assertEquals(60_000, counts[3], 1000);
+	}
+
+	@Test
+	public void testSingleWeight() {
+		var sampler = AliasSampler.of(0, 0.5, 0);
+
+		for (int i = 0; i < 100; i++)
+			assertEquals(1, sampler.next());
+	}
+
+	@Test
+	public void testInvalidWeights() {
+		assertThrows(IllegalArgumentException.class, AliasSampler::of);
+		assertThrows(IllegalArgumentException.class, () -> AliasSampler.of(0, 0));
+		assertThrows(IllegalArgumentException.class, () -> AliasSampler.of(1, -1));
+		assertThrows(IllegalArgumentException.class, () -> AliasSampler.of(1, Double.NaN));
+		assertThrows(IllegalArgumentException.class, () -> AliasSampler.of(1, Double.POSITIVE_INFINITY));
+	}
+}
@@ -0,0 +1,70 @@
+import io.github.darvil.utils.AtomicModifyRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtomicModifyRecordTest {
+	@Test
+	void testOf() {
+		var record = AtomicModifyRecord.of("Test");
+		assertEquals("Test", record.get());
+		assertFalse(record.isModified());
+		assertNull(AtomicModifyRecord.empty().get());
+	}
+
+	@Test
+	void testSet() {
+		var record = AtomicModifyRecord.of("Test");
+		assertEquals("Test", record.getAndSet("New Value"));
+		assertEquals("New Value", record.get());
+		assertTrue(record.isModified());
+		assertEquals("[modified] New Value", record.toString());
+	}
+
+	@Test
+	void testSetIfNotModified() {
+		var record = AtomicModifyRecord.of("Test");
+		assertTrue(record.setIfNotModified("New Value"));
+		assertFalse(record.setIfNotModified("Another Value"));
+		assertEquals("New Value", record.get());
+	}
+
+	@Test
+	void testCompareAndSet() {
+		var expected = "Test";
+		var record = AtomicModifyRecord.of(expected);
+
+		assertFalse(record.compareAndSet("Other", "New Value"));
+		assertFalse(record.isModified());
+		assertTrue(record.compareAndSet(expected, "New Value"));
+		assertEquals("New Value", record.get());
+		assertTrue(record.isModified());
+	}
+
+	@Test
+	void testConcurrentSetIfNotModified() throws InterruptedException {
+		for (int attempt = 0; attempt < 20; attempt++) {
+			var record = AtomicModifyRecord.<Integer>empty();
+			var successes = new AtomicInteger();
+			var threads = new ArrayList<Thread>();
+
+			for (int i = 0; i < 4; i++) {
+				final int value = i;
+				var thread = new Thread(() -> {
+					if (record.setIfNotModified(value)) successes.incrementAndGet();
+				});
+				threads.add(thread);
+				thread.start();
+			}
+
+			for (var thread : threads)
+				thread.join();
+
+			assertEquals(1, successes.get());
+			assertTrue(record.isModified());
+		}
+	}
+}
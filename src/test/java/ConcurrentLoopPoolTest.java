@@ -0,0 +1,64 @@
+import io.github.darvil.utils.ConcurrentLoopPool;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentLoopPoolTest {
+	@Test
+	void testNextAndPrev() {
+		var pool = ConcurrentLoopPool.of("A", "B", "C");
+		assertEquals("A", pool.current());
+		assertEquals("B", pool.next());
+		assertEquals("C", pool.next());
+		assertEquals("A", pool.next());
+		assertEquals("C", pool.prev());
+		assertEquals("B", pool.prev());
+		assertEquals(1, pool.getIndex());
+	}
+
+	@Test
+	void testAt() {
+		var pool = ConcurrentLoopPool.<String>of(1, "A", "B", "C", "D");
+		assertEquals("B", pool.current());
+		assertEquals("C", pool.at(1));
+		assertEquals("A", pool.at(-1));
+		assertEquals("C", pool.at(-3));
+		assertEquals("B", pool.at(8));
+
+		pool.setIndex(-1);
+		assertEquals("D", pool.current());
+	}
+
+	@Test
+	void testNoLostUpdates() throws InterruptedException {
+		final int threadCount = 4, calls = 30_000;
+		var pool = ConcurrentLoopPool.of("0", "1", "2");
+		var counts = new AtomicIntegerArray(3);
+		var threads = new ArrayList<Thread>();
+
+		for (int i = 0; i < threadCount; i++) {
+			var thread = new Thread(() -> {
+				for (int j = 0; j < calls; j++)
+					counts.incrementAndGet(Integer.parseInt(pool.next()));
+			});
+			threads.add(thread);
+			thread.start();
+		}
+
+		for (var thread : threads)
+			thread.join();
+
+		// every element is picked the same number of times
+		for (int i = 0; i < 3; i++)
+			assertEquals(threadCount * calls / 3, counts.get(i));
+		assertEquals(0, pool.getIndex());
+	}
+
+	@Test
+	void testEmpty() {
+		assertThrows(IllegalArgumentException.class, ConcurrentLoopPool::of);
+	}
+}
@@ -0,0 +1,32 @@
+import io.github.darvil.utils.DisplayWidth;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DisplayWidthTest {
+	@Test
+	public void testCodePoints() {
+		assertEquals(1, DisplayWidth.of('a'));
+		assertEquals(1, DisplayWidth.of('é'));
+		assertEquals(0, DisplayWidth.of('\n'));
+		assertEquals(0, DisplayWidth.of(0x0301)); // combining acute accent
+		assertEquals(0, DisplayWidth.of(0x200D)); // zero width joiner
+		assertEquals(0, DisplayWidth.of(0xFE0F)); // variation selector 16
+		assertEquals(1, DisplayWidth.of(0x00AD)); // soft hyphen
+		assertEquals(2, DisplayWidth.of('漢'));
+		assertEquals(2, DisplayWidth.of('ｈ')); // fullwidth
+		assertEquals(2, DisplayWidth.of(0x1F44D)); // thumbs up
+		assertEquals(2, DisplayWidth.of(0x20000)); // CJK extension B
+		assertEquals(1, DisplayWidth.of(0x10000));
+	}
+
+	@Test
+	public void testStrings() {
+		assertEquals(5, DisplayWidth.of("Hello"));
+		assertEquals(6, DisplayWidth.of("日本語"));
+		assertEquals(4, DisplayWidth.of("ééab"));
+		assertEquals(2, DisplayWidth.of("👍"));
+		assertEquals(4, DisplayWidth.of("\u001b[31m漢字\u001b[0m"));
+		assertEquals(4, DisplayWidth.of("\u001b]8;;https://example.com\u0007link\u001b]8;;\u0007"));
+	}
+}
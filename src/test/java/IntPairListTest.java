@@ -0,0 +1,46 @@
+import io.github.darvil.utils.IntPair;
+import io.github.darvil.utils.IntPairList;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntPairListTest {
+	@Test
+	void testAdd() {
+		var list = IntPairList.empty(0);
+		for (int i = 0; i < 100; i++)
+			list.add(i, -i);
+		list.add(new IntPair(7, 8));
+
+		assertEquals(101, list.size());
+		assertEquals(42, list.getFirst(42));
+		assertEquals(-42, list.getSecond(42));
+		assertEquals(new IntPair(7, 8), list.get(100));
+		assertEquals(101, list.firsts().length);
+		assertThrows(IllegalArgumentException.class, () -> list.get(101));
+	}
+
+	@Test
+	void testSort() {
+		var list = IntPairList.empty();
+		list.add(3, 0);
+		list.add(-1, 1);
+		list.add(2, 2);
+		list.add(-1, 3);
+
+		assertArrayEquals(new int[] { 1, 3, 2, 0 }, list.sortByFirst());
+		assertEquals(
+			List.of(new IntPair(-1, 1), new IntPair(-1, 3), new IntPair(2, 2), new IntPair(3, 0)),
+			list.asList()
+		);
+		assertEquals(2, list.binarySearchFirst(2));
+		assertEquals(-3, list.binarySearchFirst(0));
+
+		list.setSecond(0, 10);
+		assertArrayEquals(new int[] { 3, 2, 1, 0 }, list.sortBySecond());
+		assertArrayEquals(new int[] { 0, 2, 3, 10 }, list.seconds());
+		assertEquals(3, list.binarySearchSecond(10));
+	}
+}
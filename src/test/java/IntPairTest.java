@@ -0,0 +1,38 @@
+import io.github.darvil.utils.IntPair;
+import io.github.darvil.utils.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntPairTest {
+	@Test
+	void testPack() {
+		for (int[] values : new int[][] { { 0, 0 }, { 1, -1 }, { -5, 7 }, { Integer.MIN_VALUE, Integer.MAX_VALUE } }) {
+			final long packed = IntPair.pack(values[0], values[1]);
+			assertEquals(values[0], IntPair.unpackFirst(packed));
+			assertEquals(values[1], IntPair.unpackSecond(packed));
+			assertEquals(new IntPair(values[0], values[1]), IntPair.unpack(packed));
+		}
+	}
+
+	@Test
+	void testPackedOrder() {
+		final long[] packed = {
+			IntPair.pack(2, 0), IntPair.pack(-1, 3), IntPair.pack(1, 5), IntPair.pack(1, 2)
+		};
+		Arrays.sort(packed);
+
+		assertEquals(new IntPair(-1, 3), IntPair.unpack(packed[0]));
+		assertEquals(new IntPair(1, 2), IntPair.unpack(packed[1]));
+		assertEquals(new IntPair(1, 5), IntPair.unpack(packed[2]));
+		assertEquals(new IntPair(2, 0), IntPair.unpack(packed[3]));
+	}
+
+	@Test
+	void testToPair() {
+		assertEquals(new Pair<>(3, 4), new IntPair(3, 4).toPair());
+		assertEquals(IntPair.pack(3, 4), new IntPair(3, 4).pack());
+	}
+}
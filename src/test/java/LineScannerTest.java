@@ -0,0 +1,62 @@
+import io.github.darvil.utils.LineScanner;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LineScannerTest {
+	@Test
+	public void testNext() {
+		var scanner = new LineScanner("Hello\n\nWorld\n");
+		var lines = new ArrayList<String>();
+
+		while (scanner.next())
+			lines.add(scanner.line().toString());
+
+		assertEquals(List.of("Hello", "", "World", ""), lines);
+		assertFalse(scanner.next());
+	}
+
+	@Test
+	public void testBounds() {
+		var scanner = new LineScanner("ab\ncde");
+
+		assertTrue(scanner.next());
+		assertEquals(0, scanner.start());
+		assertEquals(2, scanner.end());
+
+		assertTrue(scanner.next());
+		assertEquals(3, scanner.start());
+		assertEquals(6, scanner.end());
+		assertEquals(3, scanner.length());
+
+		scanner.reset();
+		assertTrue(scanner.next());
+		assertEquals(0, scanner.start());
+	}
+
+	@Test
+	public void testEmpty() {
+		var scanner = new LineScanner("");
+
+		assertTrue(scanner.next());
+		assertEquals(0, scanner.length());
+		assertFalse(scanner.next());
+	}
+
+	@Test
+	public void testFindLongest() {
+		var scanner = new LineScanner("short\n\u001b[31mcolored\u001b[0m\nlonger line\nlonger text");
+
+		scanner.findLongest();
+		assertEquals("longer line", scanner.line().toString());
+		assertEquals(11, scanner.visibleLength());
+
+		scanner = new LineScanner("abcd\n漢字漢");
+		scanner.findWidest();
+		assertEquals("漢字漢", scanner.line().toString());
+		assertEquals(6, scanner.displayWidth());
+	}
+}
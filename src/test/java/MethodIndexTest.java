@@ -0,0 +1,63 @@
+import io.github.darvil.utils.MethodIndex;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MethodIndexTest {
+	@Test
+	public void testOf() {
+		assertSame(MethodIndex.of(Handlers.class), MethodIndex.of(Handlers.class));
+		assertEquals(Handlers.class, MethodIndex.of(Handlers.class).getIndexedClass());
+	}
+
+	@Test
+	public void testFindMethods() {
+		var index = MethodIndex.of(Handlers.class);
+
+		assertEquals(List.of("onMessage"), names(index.findMethods(String.class, Integer.class)));
+		assertEquals(List.of("onMessage", "onAny"), sortedNames(index.findMethods(Object.class, Integer.class)));
+		assertEquals(List.of("onMessage"), names(index.findMethods("onMessage", String.class, Integer.class)));
+		assertTrue(index.findMethods("onMessage", Integer.class).isEmpty());
+		assertSame(index.findMethods(String.class, Integer.class), index.findMethods(String.class, Integer.class));
+
+		assertEquals(2, index.getMethods("onMessage").size());
+		assertTrue(index.getMethods("missing").isEmpty());
+	}
+
+	@Test
+	public void testHandles() throws Throwable {
+		var index = MethodIndex.of(Handlers.class);
+		var handlers = new Handlers();
+		var method = index.findMethods("onMessage", String.class, Integer.class).get(0);
+
+		assertSame(index.getHandle(method), index.getHandle(method));
+		assertEquals("a2", (String)index.bind(method, handlers).invoke("a", 2));
+		assertEquals("a3", (String)index.getHandle(method).invoke(handlers, "a", 3));
+
+		var handles = index.bindAll(handlers, "onAny", Object.class, Integer.class);
+		assertEquals(1, handles.size());
+		assertEquals("any", (String)handles.get(0).invoke("x", 1));
+
+		var staticMethod = index.getMethods("create").get(0);
+		assertThrows(IllegalArgumentException.class, () -> index.bind(staticMethod, handlers));
+		assertThrows(IllegalArgumentException.class, () -> index.getHandle(String.class.getMethod("length")));
+	}
+
+	private static List<String> names(List<Method> methods) {
+		return methods.stream().map(Method::getName).toList();
+	}
+
+	private static List<String> sortedNames(List<Method> methods) {
+		return methods.stream().map(Method::getName).sorted((a, b) -> b.compareTo(a)).toList();
+	}
+
+	public static class Handlers {
+		public String onMessage(String message, Integer count) { return message + count; }
+		public String onMessage(String message) { return message; }
+		public String onAny(Object value, Integer count) { return "any"; }
+		public static Handlers create() { return new Handlers(); }
+	}
+}
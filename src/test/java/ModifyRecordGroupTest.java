@@ -0,0 +1,78 @@
+import io.github.darvil.utils.ModifyRecordGroup;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModifyRecordGroupTest {
+	@Test
+	void testOf() {
+		var group = ModifyRecordGroup.of("a", "b", "c");
+		assertEquals(3, group.size());
+		assertEquals("b", group.get(1));
+		assertFalse(group.isAnyModified());
+		assertNull(ModifyRecordGroup.empty(2).get(1));
+	}
+
+	@Test
+	void testSet() {
+		var group = ModifyRecordGroup.of("a", "b", "c");
+		group.set(1, "x");
+		group.setIfNotModified(1, "y");
+		group.setIfNotModified(2, "z");
+
+		assertEquals("x", group.get(1));
+		assertEquals("z", group.get(2));
+		assertFalse(group.isModified(0));
+		assertTrue(group.isModified(1));
+		assertEquals("[clean: a, modified: x, modified: z]", group.toString());
+	}
+
+	@Test
+	void testModifiedIteration() {
+		ModifyRecordGroup<Integer> group = ModifyRecordGroup.empty(200);
+		group.set(0, 0);
+		group.set(63, 63);
+		group.set(64, 64);
+		group.set(199, 199);
+
+		assertEquals(4, group.getModifiedCount());
+		assertArrayEquals(new int[] { 0, 63, 64, 199 }, group.getModifiedIndices());
+
+		var visited = new ArrayList<Integer>();
+		group.forEachModified((value, index) -> {
+			assertEquals(index, value);
+			visited.add(index);
+		});
+		assertEquals(List.of(0, 63, 64, 199), visited);
+	}
+
+	@Test
+	void testMerge() {
+		ModifyRecordGroup<String> user = ModifyRecordGroup.empty(100);
+		ModifyRecordGroup<String> defaults = ModifyRecordGroup.empty(100);
+		user.set(5, "user");
+		defaults.set(5, "default");
+		defaults.set(70, "default");
+
+		user.merge(defaults);
+		assertEquals("user", user.get(5));
+		assertEquals("default", user.get(70));
+		assertNull(user.get(6));
+		assertArrayEquals(new int[] { 5, 70 }, user.getModifiedIndices());
+
+		assertThrows(IllegalArgumentException.class, () -> user.merge(ModifyRecordGroup.empty(3)));
+	}
+
+	@Test
+	void testResetModified() {
+		var group = ModifyRecordGroup.of("a", "b");
+		group.set(0, "x");
+		group.resetModified();
+		assertFalse(group.isAnyModified());
+		assertEquals("x", group.get(0));
+		assertThrows(IllegalArgumentException.class, () -> group.get(2));
+	}
+}
@@ -0,0 +1,123 @@
+import io.github.darvil.utils.MultiComparator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MultiComparatorTest {
+	private static MultiComparator<String> createComparator() {
+		return new MultiComparator<String>()
+			.addPredicate(s -> s.startsWith("a"), 1)
+			.addPredicate(s -> s.length() > 3, 0);
+	}
+
+	@Test
+	public void testCompare() {
+		var comparator = createComparator();
+
+		assertEquals(-1, comparator.compare("abcd", "b"));
+		assertEquals(1, comparator.compare("b", "bcde"));
+		assertEquals(-1, comparator.compare("ab", "b"));
+		assertEquals(0, comparator.compare("ab", "ac"));
+	}
+
+	@Test
+	public void testBuild() {
+		var comparator = createComparator();
+		var list = new ArrayList<>(List.of("b", "a", "bbbb", "aaaa", "c"));
+
+		list.sort(comparator.build());
+		assertEquals(List.of("aaaa", "bbbb", "a", "b", "c"), list);
+		assertEquals(List.of("aaaa", "bbbb", "a"), List.of("a", "bbbb", "aaaa").stream().sorted(comparator.build()).toList());
+	}
+
+	@Test
+	public void testBuildAfterAdding() {
+		var comparator = new MultiComparator<String>().addPredicate(s -> s.length() > 3);
+		var built = comparator.build();
+
+		assertSame(built, comparator.build());
+
+		comparator.addPredicate(s -> s.startsWith("a"), 1);
+		assertEquals(0, built.compare("a", "b"));
+		assertEquals(-1, comparator.build().compare("a", "b"));
+		assertEquals(-1, comparator.compare("a", "b"));
+	}
+
+	@Test
+	public void testSort() {
+		var calls = new AtomicInteger();
+		var comparator = createComparator().addPredicate(s -> calls.incrementAndGet() > 0 && s.endsWith("z"), 2);
+		var list = new ArrayList<>(List.of("b", "a", "bbbb", "aaaa", "cz", "c"));
+
+		comparator.sort(list);
+		assertEquals(List.of("aaaa", "bbbb", "a", "cz", "b", "c"), list);
+		assertEquals(6, calls.get());
+	}
+
+	@Test
+	public void testSortMatchesComparator() {
+		var random = new Random(1);
+
+		for (int predicateCount : new int[] { 5, 40, 70 }) {
+			var comparator = new MultiComparator<Integer>();
+			for (int p = 0; p < predicateCount; p++) {
+				final int bit = p % 12;
+				comparator.addPredicate(i -> (i >> bit & 1) == 1, random.nextInt(4));
+			}
+
+			var list = new ArrayList<Integer>();
+			for (int i = 0; i < 20_000; i++)
+				list.add(random.nextInt(1 << 12));
+
+			var expected = new ArrayList<>(list);
+			expected.sort(comparator.build());
+
+			var sorted = new ArrayList<>(list);
+			comparator.sort(sorted);
+			assertEquals(expected, sorted);
+
+			var parallelSorted = new ArrayList<>(list);
+			comparator.parallelSort(parallelSorted);
+			assertEquals(expected, parallelSorted);
+		}
+	}
+
+	@Test
+	public void testTop() {
+		var comparator = createComparator();
+		var list = List.of("b", "a", "bbbb", "aaaa", "c", "dddd");
+
+		assertEquals(List.of("aaaa", "bbbb", "dddd"), comparator.top(list, 3));
+		assertEquals(List.of("aaaa"), comparator.top(list, 1));
+		assertEquals(List.of(), comparator.top(list, 0));
+		assertEquals(6, comparator.top(list, 10).size());
+		assertThrows(IllegalArgumentException.class, () -> comparator.top(list, -1));
+	}
+
+	@Test
+	public void testTopMatchesSort() {
+		var random = new Random(2);
+		var comparator = new MultiComparator<Integer>();
+		for (int bit = 0; bit < 6; bit++) {
+			final int b = bit;
+			comparator.addPredicate(i -> (i >> b & 1) == 1, bit);
+		}
+
+		var list = new ArrayList<Integer>();
+		for (int i = 0; i < 50_000; i++)
+			list.add(random.nextInt(1 << 10));
+
+		var sorted = new ArrayList<>(list);
+		comparator.sort(sorted);
+
+		for (int k : new int[] { 1, 20, 500 }) {
+			assertEquals(sorted.subList(0, k), comparator.top(list, k));
+			assertEquals(sorted.subList(0, k), comparator.parallelTop(list, k));
+		}
+	}
+}
@@ -0,0 +1,76 @@
+import io.github.darvil.utils.Pair;
+import io.github.darvil.utils.PairList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PairListTest {
+	@Test
+	void testAdd() {
+		PairList<String, Integer> list = PairList.empty(1);
+		for (int i = 0; i < 100; i++)
+			list.add("v" + i, i);
+		list.add(new Pair<>("last", -1));
+
+		assertEquals(101, list.size());
+		assertEquals("v42", list.getFirst(42));
+		assertEquals(42, list.getSecond(42));
+		assertEquals(new Pair<>("last", -1), list.get(100));
+		assertThrows(IllegalArgumentException.class, () -> list.get(101));
+
+		list.clear();
+		assertEquals(0, list.size());
+	}
+
+	@Test
+	void testSortByFirst() {
+		PairList<String, Integer> list = PairList.empty();
+		list.add("c", 0);
+		list.add("a", 1);
+		list.add("b", 2);
+		list.add("a", 3);
+
+		assertArrayEquals(new int[] { 1, 3, 2, 0 }, list.sortByFirst(Comparator.naturalOrder()));
+		assertEquals(
+			List.of(new Pair<>("a", 1), new Pair<>("a", 3), new Pair<>("b", 2), new Pair<>("c", 0)),
+			list.asList()
+		);
+
+		assertEquals(2, list.binarySearchFirst("b", Comparator.naturalOrder()));
+		assertEquals(-4, list.binarySearchFirst("bb", Comparator.naturalOrder()));
+	}
+
+	@Test
+	void testSortBySecondMatchesListSort() {
+		final var random = new java.util.Random(7);
+		PairList<Integer, Integer> list = PairList.empty();
+		final var expected = new ArrayList<Pair<Integer, Integer>>();
+
+		for (int i = 0; i < 1000; i++) {
+			list.add(i, random.nextInt(50));
+			expected.add(list.get(i));
+		}
+
+		list.sortBySecond(Comparator.reverseOrder());
+		expected.sort(Comparator.comparing(Pair::second, Comparator.reverseOrder()));
+		assertEquals(expected, list.asList());
+
+		assertEquals(49, list.getSecond(list.binarySearchSecond(49, Comparator.reverseOrder())));
+	}
+
+	@Test
+	void testAsList() {
+		PairList<String, String> list = PairList.empty();
+		final var view = list.asList();
+		list.add("a", "b");
+
+		assertEquals(1, view.size());
+		assertEquals(new Pair<>("a", "b"), view.get(0));
+		assertThrows(UnsupportedOperationException.class, () -> view.add(new Pair<>("c", "d")));
+		assertEquals("[Pair[first=a, second=b]]", list.toString());
+	}
+}
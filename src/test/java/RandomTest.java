@@ -0,0 +1,123 @@
+import io.github.darvil.utils.LoopPool;
+import io.github.darvil.utils.Random;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RandomTest {
+	@Test
+	public void testRandInt() {
+		for (int i = 0; i < 1000; i++) {
+			final int value = Random.randInt(-5, 5);
+			assertTrue(value >= -5 && value < 5);
+			assertEquals(0, Random.randInt(1));
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> Random.randInt(5, 5));
+		assertThrows(IllegalArgumentException.class, () -> Random.randInt(0));
+	}
+
+	@Test
+	public void testSeeded() {
+		var first = Random.ints(Random.seeded(42), 100, 0, 1000);
+		var second = Random.ints(Random.seeded(42), 100, 0, 1000);
+
+		assertArrayEquals(first, second);
+		assertFalse(Arrays.equals(first, Random.ints(Random.seeded(43), 100, 0, 1000)));
+		assertEquals(Random.randInt(Random.seeded(7), 10), Random.randInt(Random.splittable(7), 10));
+	}
+
+	@Test
+	public void testInts() {
+		var values = Random.ints(10_000, 10, 20);
+		var counts = new int[10];
+
+		for (int value : values)
+			counts[value - 10]++;
+
+		for (int count : counts)
+			assertTrue(count > 800 && count < 1200);
+
+		assertEquals(0, Random.ints(0, 0, 1).length);
+		assertThrows(IllegalArgumentException.class, () -> Random.ints(-1, 0, 1));
+	}
+
+	@Test
+	public void testAtRandomIndex() {
+		final var expected = Random.randInt(Random.seeded(3), 4);
+		assertEquals(expected, LoopPool.atRandomIndex(Random.seeded(3), "a", "b", "c", "d").getIndex());
+	}
+
+	@Test
+	public void testShuffle() {
+		var generator = Random.seeded(1);
+		var array = IntStream.range(0, 100).toArray();
+		Random.shuffle(generator, array);
+
+		assertFalse(Arrays.equals(IntStream.range(0, 100).toArray(), array));
+		assertArrayEquals(IntStream.range(0, 100).toArray(), Arrays.stream(array).sorted().toArray());
+
+		for (var list : List.<List<Integer>>of(new ArrayList<>(), new LinkedList<>())) {
+			for (int i = 0; i < 50; i++) list.add(i);
+			Random.shuffle(generator, list);
+
+			assertEquals(50, new HashSet<>(list).size());
+			assertNotEquals(IntStream.range(0, 50).boxed().toList(), list);
+		}
+
+		// every element must be able to end up in the first position
+		var firsts = new int[4];
+		for (int i = 0; i < 4000; i++) {
+			var values = new Integer[] { 0, 1, 2, 3 };
+			Random.shuffle(generator, values);
+			firsts[values[0]]++;
+		}
+		for (int count : firsts)
+			assertTrue(count > 850 && count < 1150);
+	}
+
+	@Test
+	public void testSampleIndices() {
+		var generator = Random.seeded(2);
+
+		for (int[] params : new int[][] { { 1000, 10 }, { 100, 90 }, { 5, 5 }, { 5, 0 } }) {
+			var sample = Random.sampleIndices(generator, params[0], params[1]);
+
+			assertEquals(params[1], sample.length);
+			assertEquals(params[1], Arrays.stream(sample).distinct().count());
+			assertTrue(Arrays.stream(sample).allMatch(i -> i >= 0 && i < params[0]));
+		}
+
+		// each index must have the same probability
+		var counts = new int[20];
+		for (int i = 0; i < 10_000; i++)
+			for (int index : Random.sampleIndices(generator, 20, 3)) counts[index]++;
+		for (int count : counts)
+			assertTrue(count > 1300 && count < 1700);
+
+		assertThrows(IllegalArgumentException.class, () -> Random.sampleIndices(3, 4));
+		assertEquals(3, Random.sample(List.of("a", "b", "c", "d"), 3).size());
+	}
+
+	@Test
+	public void testReservoirSample() {
+		var generator = Random.seeded(3);
+
+		assertEquals(List.of(1, 2), Random.sample(generator, List.of(1, 2).iterator(), 5));
+		assertEquals(List.of(), Random.sample(generator, List.of(1, 2).iterator(), 0));
+
+		// each element must have the same probability
+		var counts = new int[100];
+		for (int i = 0; i < 5000; i++)
+			for (int value : Random.sample(generator, IntStream.range(0, 100).iterator(), 10)) counts[value]++;
+		for (int count : counts)
+			assertTrue(count > 400 && count < 600, "count " + count);
+	}
+}
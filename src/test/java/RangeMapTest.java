@@ -0,0 +1,91 @@
+import io.github.darvil.utils.Range;
+import io.github.darvil.utils.RangeMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RangeMapTest {
+	private static final RangeMap<String> MAP = RangeMap.<String>builder()
+		.put(Range.from(0).to(10), "a")
+		.put(Range.from(5).to(15), "b")
+		.put(Range.from(20).toInfinity(), "c")
+		.put(Range.of(7), "d")
+		.build();
+
+	@Test
+	public void testContaining() {
+		assertEquals(List.of("a"), MAP.valuesContaining(0));
+		assertEquals(List.of("a", "b", "d"), sorted(MAP.valuesContaining(7)));
+		assertEquals(List.of("b"), MAP.valuesContaining(15));
+		assertEquals(List.of(), MAP.valuesContaining(16));
+		assertEquals(List.of("c"), MAP.valuesContaining(Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void testOverlapping() {
+		var values = new ArrayList<String>();
+		for (var entry : MAP.entriesOverlapping(Range.from(12).to(30)))
+			values.add(entry.second());
+
+		assertEquals(List.of("b", "c"), sorted(values));
+		assertTrue(MAP.entriesOverlapping(Range.from(16).to(19)).isEmpty());
+		assertEquals(4, MAP.entriesOverlapping(Range.ANY).size());
+	}
+
+	@Test
+	public void testEmpty() {
+		var map = RangeMap.<String>builder().build();
+
+		assertEquals(0, map.size());
+		assertTrue(map.valuesContaining(0).isEmpty());
+		assertTrue(map.entriesOverlapping(Range.ANY).isEmpty());
+	}
+
+	@Test
+	public void testAgainstLinearSearch() {
+		var random = new Random(42);
+		var ranges = new ArrayList<Range>();
+		var builder = RangeMap.<Integer>builder();
+
+		for (int i = 0; i < 300; i++) {
+			final int start = random.nextInt(1000);
+			final var range = random.nextInt(20) == 0
+				? Range.from(start).toInfinity()
+				: Range.from(start).to(start + random.nextInt(50));
+			ranges.add(range);
+			builder.put(range, i);
+		}
+
+		final var map = builder.build();
+
+		for (int value = 0; value < 1100; value++) {
+			final var expected = new ArrayList<Integer>();
+			for (int i = 0; i < ranges.size(); i++)
+				if (ranges.get(i).containsInclusive(value)) expected.add(i);
+
+			assertEquals(expected, sorted(map.valuesContaining(value)));
+		}
+
+		for (int i = 0; i < 500; i++) {
+			final int from = random.nextInt(1100);
+			final var query = Range.from(from).to(from + random.nextInt(30));
+			final var expected = new ArrayList<Integer>();
+			for (int j = 0; j < ranges.size(); j++)
+				if (ranges.get(j).start() <= query.end() && ranges.get(j).end() >= query.start()) expected.add(j);
+
+			final var actual = new ArrayList<Integer>();
+			map.forEachOverlapping(query, (range, value) -> actual.add(value));
+			assertEquals(expected, sorted(actual));
+		}
+	}
+
+	private static <T extends Comparable<T>> List<T> sorted(List<T> list) {
+		final var copy = new ArrayList<>(list);
+		copy.sort(null);
+		return copy;
+	}
+}
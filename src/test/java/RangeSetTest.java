@@ -0,0 +1,86 @@
+import io.github.darvil.utils.MutableRangeSet;
+import io.github.darvil.utils.Range;
+import io.github.darvil.utils.RangeSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RangeSetTest {
+	@Test
+	public void testNormalization() {
+		var set = RangeSet.of(Range.from(5).to(8), Range.from(1).to(3), Range.of(4), Range.from(10).to(12));
+
+		assertEquals(2, set.rangeCount());
+		assertEquals("[{1..8}, {10..12}]", set.toString());
+		assertEquals(11, set.valueCount());
+	}
+
+	@Test
+	public void testContains() {
+		var set = RangeSet.of(Range.from(1).to(3), Range.from(10).toInfinity());
+
+		assertFalse(set.contains(0));
+		assertTrue(set.contains(1));
+		assertTrue(set.contains(3));
+		assertFalse(set.contains(4));
+		assertTrue(set.contains(Integer.MAX_VALUE));
+
+		assertTrue(set.encloses(Range.from(20).to(30)));
+		assertFalse(set.encloses(Range.from(2).to(10)));
+		assertTrue(set.intersects(Range.from(2).to(10)));
+		assertFalse(set.intersects(Range.from(4).to(9)));
+	}
+
+	@Test
+	public void testOperations() {
+		var a = RangeSet.of(Range.from(0).to(10), Range.from(20).toInfinity());
+		var b = RangeSet.of(Range.from(5).to(25));
+
+		assertEquals("[{0..}]", a.union(b).toString());
+		assertEquals("[{5..10}, {20..25}]", a.intersection(b).toString());
+		assertEquals("[{0..4}, {26..}]", a.difference(b).toString());
+		assertEquals("[{11..19}]", b.difference(a).toString());
+	}
+
+	@Test
+	public void testMutable() {
+		var set = new MutableRangeSet()
+			.add(Range.from(0).to(10))
+			.add(Range.from(20).to(30))
+			.add(Range.of(11));
+
+		assertEquals("[{0..11}, {20..30}]", set.toString());
+
+		set.remove(Range.from(5).to(25));
+		assertEquals("[{0..4}, {26..30}]", set.toString());
+
+		set.add(Range.from(3).to(27));
+		assertEquals("[{0..30}]", set.toString());
+
+		var snapshot = set.toRangeSet();
+		set.clear();
+		assertTrue(set.isEmpty());
+		assertEquals("[{0..30}]", snapshot.toString());
+		assertEquals(RangeSet.of(Range.from(0).to(30)), snapshot);
+
+		var copy = snapshot.toMutable().add(Range.of(40));
+		assertEquals("[{0..30}, {40}]", copy.toString());
+		assertTrue(copy.contains(40));
+		assertEquals("[{0..30}]", snapshot.toString());
+
+		copy.retainAll(RangeSet.of(Range.from(25).to(45)));
+		assertEquals(RangeSet.of(Range.from(25).to(30), Range.of(40)), copy.toRangeSet());
+	}
+
+	@Test
+	public void testIterator() {
+		var set = RangeSet.of(Range.from(1).to(2), Range.from(5).to(6));
+		var iterator = set.iterator();
+
+		assertEquals(1, iterator.nextInt());
+		assertEquals(2, iterator.nextInt());
+		assertEquals(5, iterator.nextInt());
+		assertEquals(6, iterator.nextInt());
+		assertFalse(iterator.hasNext());
+	}
+}
@@ -1,6 +1,10 @@
 import io.github.darvil.utils.Range;
 import org.junit.jupiter.api.Test;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class RangeTest {
@@ -100,4 +104,74 @@ public class RangeTest {
 			assertFalse(iterator.hasNext());
 		}
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testPrimitiveIterator() {
+		var iterator = Range.from(3).to(5).intIterator(false, true);
+
+		assertEquals(4, iterator.nextInt());
+		assertEquals(5, iterator.nextInt());
+		assertFalse(iterator.hasNext());
+		assertThrows(NoSuchElementException.class, iterator::nextInt);
+
+		// the boxed iterator keeps its original signature
+		Iterator<Integer> boxed = Range.from(3).to(5).iterator(true, false);
+		assertEquals(3, boxed.next());
+		assertEquals(4, boxed.next());
+		assertFalse(boxed.hasNext());
+
+		// infinite ranges stop at the max value
+		var infinite = Range.from(Integer.MAX_VALUE - 1).toInfinity().iterator();
+		assertEquals(Integer.MAX_VALUE - 1, infinite.nextInt());
+		assertEquals(Integer.MAX_VALUE, infinite.nextInt());
+		assertFalse(infinite.hasNext());
+	}
+
+	@Test
+	public void testForEachInt() {
+		var sum = new int[1];
+		Range.from(1).to(10).forEachInt(i -> sum[0] += i);
+		assertEquals(55, sum[0]);
+
+		sum[0] = 0;
+		Range.from(1).to(10).forEachInt(i -> sum[0] += i, false, false);
+		assertEquals(44, sum[0]);
+	}
+
+	@Test
+	public void testStream() {
+		assertArrayEquals(new int[] { 10, 11, 12 }, Range.from(10).to(12).stream().toArray());
+		assertArrayEquals(new int[] { 11 }, Range.from(10).to(12).stream(false, false).toArray());
+		assertEquals(0, Range.from(10).to(11).stream(false, false).count());
+		assertEquals(3, Range.ANY.stream().limit(3).count());
+	}
+
+	@Test
+	public void testSpliterator() {
+		var spliterator = Range.from(0).to(99).spliterator();
+
+		assertEquals(100, spliterator.getExactSizeIfKnown());
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.DISTINCT));
+
+		var prefix = spliterator.trySplit();
+		assertNotNull(prefix);
+		assertEquals(50, prefix.getExactSizeIfKnown());
+		assertEquals(50, spliterator.getExactSizeIfKnown());
+		prefix.tryAdvance((int i) -> assertEquals(0, i));
+		spliterator.tryAdvance((int i) -> assertEquals(50, i));
+
+		// infinite ranges are split in small chunks from the start
+		var infinite = Range.AT_LEAST_ONE.spliterator();
+		assertEquals(Integer.MAX_VALUE, infinite.getExactSizeIfKnown());
+		assertEquals(1024, infinite.trySplit().getExactSizeIfKnown());
+		infinite.tryAdvance((int i) -> assertEquals(1025, i));
+	}
+
+	@Test
+	public void testParallelStream() {
+		var range = Range.from(0).to(1_000_000);
+
+		assertEquals(range.stream().asLongStream().sum(), range.parallelStream().asLongStream().sum());
+		assertArrayEquals(new int[] { 5, 6, 7 }, Range.ANY.parallelStream().skip(5).limit(3).toArray());
+	}
+}
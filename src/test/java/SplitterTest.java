@@ -0,0 +1,53 @@
+import io.github.darvil.utils.Splitter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SplitterTest {
+	@Test
+	public void testSplit() {
+		var splitter = Splitter.on(',');
+
+		assertArrayEquals(new String[] { "a", "b", "c" }, splitter.split("a , b,c"));
+		assertArrayEquals(new String[] { "", "a", "", "" }, splitter.split(",a,,"));
+		assertArrayEquals(new String[] { "a b" }, splitter.split("a b"));
+		assertArrayEquals(new String[] { "a", "b" }, Splitter.on("->").split("a -> b"));
+	}
+
+	@Test
+	public void testSplitMax() {
+		var splitter = Splitter.on(',');
+
+		assertArrayEquals(new String[] { "a", "b , c" }, splitter.split("a , b , c", 2));
+		assertArrayEquals(new String[] { "", "a" }, splitter.split(",a,,", 0));
+		assertArrayEquals(new String[] { "" }, splitter.split("", 0));
+	}
+
+	@Test
+	public void testSpacedSeparator() {
+		assertArrayEquals(new String[] { "a", "b" }, Splitter.on(", ").split("a  ,  b"));
+		assertArrayEquals(new String[] { "a", "b", "c" }, Splitter.on("").split("abc", 0));
+	}
+
+	@Test
+	public void testIterator() {
+		var tokens = new ArrayList<String>();
+		Splitter.on(';').iterator(new StringBuilder("x ; y;;z ")).forEachRemaining(t -> tokens.add(t.toString()));
+
+		assertEquals(List.of("x", "y", "", "z "), tokens);
+	}
+
+	@Test
+	public void testForEach() {
+		var bounds = new ArrayList<Integer>();
+		Splitter.on(',').forEach("ab, cd", (source, start, end) -> {
+			bounds.add(start);
+			bounds.add(end);
+		});
+
+		assertEquals(List.of(0, 2, 4, 6), bounds);
+	}
+}
@@ -1,16 +1,42 @@
 import io.github.darvil.utils.UtlReflection;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class UtlReflectionTest {
 
 	@Test
 	public void testGetSimpleName() {
 		assertEquals("Object", UtlReflection.getSimpleName(new Object() {}.getClass()));
+		assertEquals("TestClass", UtlReflection.getSimpleName(new TestClass() {}.getClass()));
+		assertEquals("Entry", UtlReflection.getSimpleName(Map.Entry.class));
+	}
+
+	@Test
+	public void testGetQualifiedName() {
+		Runnable lambda = () -> {};
+
+		assertEquals("java.util.Map.Entry", UtlReflection.getQualifiedName(Map.Entry.class));
+		assertEquals("UtlReflectionTest.TestClass", UtlReflection.getQualifiedName(new TestClass() {}.getClass()));
+		assertEquals("java.lang.Object", UtlReflection.getQualifiedName(lambda.getClass()));
+		assertEquals("int[]", UtlReflection.getQualifiedName(int[].class));
+	}
+
+	@Test
+	public void testJoinNames() {
+		var classes = List.of(String.class, Map.Entry.class, new Object() {}.getClass());
+
+		assertEquals("String, Entry, Object", UtlReflection.joinSimpleNames(classes, ", "));
+		assertEquals("java.lang.String > java.util.Map.Entry > java.lang.Object", UtlReflection.joinQualifiedNames(classes, " > "));
+		assertEquals("", UtlReflection.joinSimpleNames(List.of(), ", "));
 	}
 
 	@Test
@@ -34,6 +60,62 @@ public class UtlReflectionTest {
 		}
 	}
 
+	@Test
+	public void testGetFactory() {
+		var factory = UtlReflection.getFactory(TestClass.class);
+		assertEquals(TestClass.CONSTANT_OK, factory.get().a);
+		assertNotSame(factory.get(), factory.get());
+
+		var argsFactory = UtlReflection.getFactory(TestClass.class, List.of(Integer.class, Integer.class));
+		var instance = argsFactory.apply(List.of(1, 2));
+		assertEquals(1, instance.a);
+		assertEquals(2, instance.b);
+		assertThrows(IllegalArgumentException.class, () -> argsFactory.apply(List.of(1)));
+	}
+
+	@Test
+	public void testInstantiateErrors() {
+		var missing = assertThrows(RuntimeException.class, () -> UtlReflection.instantiate(TestClass.class, List.of("a")));
+		assertTrue(missing.getMessage().startsWith("Unable to find a public constructor for the class"));
+
+		var failing = assertThrows(RuntimeException.class, () -> UtlReflection.instantiate(FailingClass.class));
+		assertInstanceOf(InvocationTargetException.class, failing.getCause());
+		assertInstanceOf(IllegalStateException.class, failing.getCause().getCause());
+
+		var abstractClass = assertThrows(RuntimeException.class, () -> UtlReflection.instantiate(AbstractClass.class));
+		assertTrue(abstractClass.getMessage().startsWith("Unable to instantiate the class"));
+
+		// errors are not blamed on the constructor
+		assertThrows(AssertionError.class, () -> UtlReflection.instantiate(ErrorClass.class));
+	}
+
+	@Test
+	public void testWrongArgumentTypes() {
+		var factory = UtlReflection.getFactory(TestClass.class, List.of(Integer.class, Integer.class));
+		assertThrows(IllegalArgumentException.class, () -> factory.apply(List.of(1, "2")));
+
+		var primitiveFactory = UtlReflection.getFactory(OverloadedClass.class, List.of(long.class));
+		assertEquals("long", primitiveFactory.apply(List.of(1)).kind);
+		assertThrows(IllegalArgumentException.class, () -> primitiveFactory.apply(List.of(1.5)));
+		assertThrows(IllegalArgumentException.class, () -> primitiveFactory.apply(Arrays.asList((Object)null)));
+	}
+
+	@Test
+	public void testOverloadResolution() {
+		assertEquals("list", UtlReflection.instantiate(OverloadedClass.class, List.of(new ArrayList<>())).kind);
+		assertEquals("collection", UtlReflection.instantiate(OverloadedClass.class, List.of(new HashSet<>())).kind);
+		assertEquals("long", UtlReflection.instantiate(OverloadedClass.class, List.of(1)).kind);
+		assertEquals("string", UtlReflection.instantiate(OverloadedClass.class, List.of("a")).kind);
+		assertEquals("varargs 3", UtlReflection.instantiate(OverloadedClass.class, List.of("a", "b", "c")).kind);
+		assertEquals("factory", UtlReflection.instantiate(OverloadedClass.class, List.of('c')).kind);
+
+		assertEquals(
+			"list",
+			UtlReflection.instantiate(OverloadedClass.class, List.of(ArrayList.class), List.of(new ArrayList<>())).kind
+		);
+		assertThrows(IllegalArgumentException.class, () -> UtlReflection.instantiate(AmbiguousClass.class, List.of(1)));
+	}
+
 	@Test
 	public void testHasParameters() {
 		var methods = List.of(TestClass.class.getDeclaredMethods());
@@ -66,4 +148,42 @@ public class UtlReflectionTest {
 		public void testMethod(Integer a) {}
 		public void testMethod(Integer a, Integer b) {}
 	}
-}
\ No newline at end of file
+
+	public static class FailingClass {
+		public FailingClass() {
+			throw new IllegalStateException();
+		}
+	}
+
+	public static class ErrorClass {
+		public ErrorClass() {
+			throw new AssertionError();
+		}
+	}
+
+	public static abstract class AbstractClass {
+		public AbstractClass() {}
+	}
+
+	public static class OverloadedClass {
+		public final String kind;
+
+		public OverloadedClass(Collection<?> value) { this.kind = "collection"; }
+		public OverloadedClass(List<?> value) { this.kind = "list"; }
+		public OverloadedClass(long value) { this.kind = "long"; }
+		public OverloadedClass(double value) { this.kind = "double"; }
+		public OverloadedClass(String value) { this.kind = "string"; }
+		public OverloadedClass(String... values) { this.kind = "varargs " + values.length; }
+
+		private OverloadedClass(String kind, boolean unused) { this.kind = kind; }
+
+		public static OverloadedClass of(Character value) {
+			return new OverloadedClass("factory", false);
+		}
+	}
+
+	public static class AmbiguousClass {
+		public AmbiguousClass(Comparable<?> value) {}
+		public AmbiguousClass(Number value) {}
+	}
+}
@@ -1,6 +1,12 @@
 import io.github.darvil.utils.UtlString;
+import io.github.darvil.utils.WrappingWriter;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class UtlStringTest {
@@ -11,6 +17,13 @@ public class UtlStringTest {
 		assertEquals("This is a long line", UtlString.getLongestLine(str));
 	}
 
+	@Test
+	void testGetWidestLine() {
+		String str = "Hello\n日本語の文字\nThis is long\nshort";
+		assertEquals("日本語の文字", UtlString.getWidestLine(str));
+		assertEquals("This is long", UtlString.getLongestLine(str));
+	}
+
 	@Test
 	void testWrap() {
 		String str = "This is a long line that should be wrapped";
@@ -18,6 +31,57 @@ public class UtlStringTest {
 		assertEquals(4, wrapped.split("\n").length);
 	}
 
+	@Test
+	void testWrapIndentation() {
+		String str = "  This is a long line that should be wrapped";
+		assertEquals("  This is a long \n  line that should \n  be wrapped", UtlString.wrap(str, 15));
+	}
+
+	@Test
+	void testWrapStream() throws IOException {
+		String str = "This is a \u001b[31mlong\u001b[0m line that should be wrapped\n\tand this one is indented too";
+		var out = new StringWriter();
+		UtlString.wrap(new StringReader(str), out, 10);
+		assertEquals(UtlString.wrap(str, 10), out.toString());
+
+		// the last word is only written once finished
+		var writer = new WrappingWriter(out = new StringWriter(), 10);
+		writer.write("Hello World");
+		assertEquals("Hello ", out.toString());
+		writer.finish();
+		assertEquals("Hello World", out.toString());
+	}
+
+	@Test
+	void testWrapStreamMatchesString() throws IOException {
+		// short text is returned unchanged by wrap(String, int), so the stream must not change it either
+		for (var str : List.of("a  b", "hello  world", "  indented  text  ", "a\n  \nb", "trailing  ", "\t")) {
+			var out = new StringWriter();
+			UtlString.wrap(new StringReader(str), out, 20);
+			assertEquals(str, out.toString());
+			assertEquals(str, UtlString.wrap(str, 20));
+		}
+
+		// repeated spaces between words are kept when wrapping too
+		assertEquals("a  b \nc", UtlString.wrap("a  b c", 4));
+	}
+
+	@Test
+	void testWrapStreamLongWords() {
+		// words and indentation longer than the buffers are written as they arrive
+		String longWord = "x".repeat(1000);
+		assertEquals("short " + longWord + " \nend", UtlString.wrap("short " + longWord + " end", 10));
+		assertEquals("a \n" + longWord + " \nb", UtlString.wrap("a " + longWord + " b", 1));
+
+		String indent = " ".repeat(300);
+		assertEquals(indent + "a b \n" + " ".repeat(256) + "c", UtlString.wrap(indent + "a b c", 303));
+
+		// sequences split between the buffer and the rest of the word are still not counted
+		String word = "a".repeat(255) + "\u001b[31m" + "b".repeat(10);
+		assertEquals(word + " c", UtlString.wrap(word + " c", 267));
+		assertEquals(word + " \nc", UtlString.wrap(word + " c", 266));
+	}
+
 	@Test
 	void testIndent() {
 		String str = "Hello\nWorld";
@@ -31,12 +95,50 @@ public class UtlStringTest {
 		assertEquals("###Hello###", UtlString.center("Hello", 10, '#'));
 	}
 
+	@Test
+	void testWrapByDisplayWidth() {
+		String str = "日本語 日本語 日本語";
+		assertEquals("日本語 日本語 \n日本語", UtlString.wrap(str, 7));
+		assertEquals("日本語 \n日本語 \n日本語", UtlString.wrapByDisplayWidth(str, 7));
+	}
+
+	@Test
+	void testCenterByDisplayWidth() {
+		assertEquals("--漢字--", UtlString.centerByDisplayWidth("漢字", 8));
+		assertEquals("##e\u0301##", UtlString.centerByDisplayWidth("e\u0301", 5, '#'));
+	}
+
 	@Test
 	void testRemoveSequences() {
 		String str = "\u001b[31mHello\u001b[0m";
 		assertEquals("Hello", UtlString.removeSequences(str));
 	}
 
+	@Test
+	void testRemoveSequencesOsc() {
+		String str = "\u001b]8;;https://example.com\u001b\\link\u001b]8;;\u0007 \u001b[1;4mbold\u001b[0m";
+		assertEquals("\u001b]8;;https://example.com\u001b\\link\u001b]8;;\u0007 bold", UtlString.removeSequences(str));
+		assertEquals("link bold", UtlString.removeSequences(str, true));
+	}
+
+	@Test
+	void testRemoveSequencesUnchanged() {
+		String str = "Hello World";
+		assertSame(str, UtlString.removeSequences(str));
+
+		// incomplete sequences are kept
+		assertEquals("\u001b[31", UtlString.removeSequences("\u001b[31"));
+		assertEquals("\u001b]8;;", UtlString.removeSequences("\u001b]8;;", true));
+	}
+
+	@Test
+	void testVisibleLength() {
+		assertEquals(5, UtlString.visibleLength("\u001b[31mHello\u001b[0m"));
+		assertEquals(5, UtlString.visibleLength(new StringBuilder("He\u001b[38;5;200mllo")));
+		assertEquals(4, UtlString.visibleLength("\u001b]8;;url\u0007link\u001b]8;;\u0007", true));
+		assertEquals(3, UtlString.visibleLength("\u001b[3"));
+	}
+
 	@Test
 	void testPlural() {
 		assertEquals("1 apple", UtlString.plural("apple", 1));
@@ -0,0 +1,111 @@
+import io.github.darvil.utils.WeightedLoopPool;
+import io.github.darvil.utils.WeightedLoopPool.Mode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightedLoopPoolTest {
+	@Test
+	void testSmoothRoundRobin() {
+		var pool = WeightedLoopPool.of(Mode.SMOOTH_ROUND_ROBIN, "a", "b", "c");
+		pool.update(new int[] { 5, 1, 1 }, new boolean[] { true, true, true });
+
+		var result = new StringBuilder();
+		for (int i = 0; i < 14; i++)
+			result.append(pool.next());
+
+		assertEquals("aabacaaaabacaa", result.toString());
+	}
+
+	@Test
+	void testEqualWeights() {
+		var pool = WeightedLoopPool.of(Mode.SMOOTH_ROUND_ROBIN, "a", "b", "c");
+		pool.setWeight(0, 4);
+		pool.setWeight(1, 4);
+		pool.setWeight(2, 4);
+
+		assertEquals("a", pool.next());
+		assertEquals("b", pool.next());
+		assertEquals("c", pool.next());
+		assertEquals("a", pool.next());
+	}
+
+	@Test
+	void testUnhealthy() {
+		for (var mode : Mode.values()) {
+			var pool = WeightedLoopPool.of(mode, "a", "b", "c");
+			pool.setHealthy(1, false);
+			pool.setWeight(2, 0);
+
+			for (int i = 0; i < 100; i++)
+				assertEquals("a", pool.next());
+
+			pool.setHealthy(0, false);
+			assertThrows(IllegalStateException.class, pool::next);
+
+			pool.setHealthy(1, true);
+			assertEquals("b", pool.next());
+		}
+	}
+
+	@Test
+	void testScheduleUsesReducedWeights() {
+		// the same sequence as weights of 5, 1, 1
+		var pool = WeightedLoopPool.of(Mode.SMOOTH_ROUND_ROBIN, "a", "b", "c");
+		pool.update(new int[] { 5000, 1000, 1000 }, new boolean[] { true, true, true });
+
+		var result = new StringBuilder();
+		for (int i = 0; i < 14; i++)
+			result.append(pool.next());
+
+		assertEquals("aabacaaaabacaa", result.toString());
+	}
+
+	@Test
+	void testLargeWeights() {
+		var pool = WeightedLoopPool.of(Mode.SMOOTH_ROUND_ROBIN, "a", "b");
+		pool.update(new int[] { Integer.MAX_VALUE, Integer.MAX_VALUE - 1 }, new boolean[] { true, true });
+
+		assertEquals("a", pool.next());
+		assertEquals("b", pool.next());
+	}
+
+	@Test
+	void testPowerOfTwoChoices() {
+		var elements = new Integer[10];
+		Arrays.setAll(elements, i -> i);
+		var healthy = new boolean[10];
+		Arrays.fill(healthy, true);
+
+		for (var weights : List.of(
+			new int[] { 1000, 1, 1, 1, 1, 1, 1, 1, 1, 1 },
+			new int[] { 10, 9, 8, 7, 6, 5, 4, 3, 2, 1 },
+			new int[] { 1, 1, 1, 1, 1, 1, 1, 1, 1, 50 }
+		)) {
+			var pool = WeightedLoopPool.of(Mode.POWER_OF_TWO_CHOICES, elements);
+			pool.update(weights, healthy);
+
+			var counts = new int[10];
+			for (int i = 0; i < 100_000; i++)
+				counts[pool.next()]++;
+
+			// each element gets a share of the picks close to its share of the total weight
+			double total = Arrays.stream(weights).sum();
+			for (int i = 0; i < 10; i++)
+				assertEquals(weights[i] / total, counts[i] / 100_000.0, 0.01, "element " + i);
+		}
+	}
+
+	@Test
+	void testInvalidArguments() {
+		var pool = WeightedLoopPool.of(Mode.SMOOTH_ROUND_ROBIN, "a", "b");
+
+		assertThrows(IllegalArgumentException.class, () -> pool.setWeight(2, 1));
+		assertThrows(IllegalArgumentException.class, () -> pool.setWeight(0, -1));
+		assertThrows(IllegalArgumentException.class, () -> pool.update(new int[] { 1 }, new boolean[] { true }));
+		assertEquals(1, pool.getWeight(0));
+	}
+}